@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.william278.huskhomes.position.Position;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads teleport destinations ahead of time so the teleport itself doesn't wait on chunk I/O.
+ *
+ * The chunk is requested with getChunkAtAsync and then held with a plugin chunk ticket until the
+ * player should have arrived; the ticket is released after a fixed timeout either way.
+ * Asking again for a chunk that's already held just pushes its release back.
+ *
+ * Held chunks are capped globally and per player. A player over their limit gives up their oldest
+ * hold (they changed their mind); over the global limit new requests are skipped.
+ */
+public final class ChunkPrewarmer implements Listener {
+
+    private record ChunkKey(UUID world, int x, int z) {}
+    private record Hold(ChunkKey key, long token) {}
+
+    private final JavaPlugin plugin;
+    private final HHMConfig config;
+    private final long holdTicks;
+    private final int maxPerPlayer;
+    private final int maxGlobal;
+
+    // held chunk -> token of the release that's allowed to remove its ticket
+    private final Map<ChunkKey, Long> held = new ConcurrentHashMap<>();
+    private final AtomicLong tokens = new AtomicLong();
+
+    // player -> their holds, oldest first (may still list holds that were already released)
+    private final Map<UUID, Deque<Hold>> byPlayer = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
+    public ChunkPrewarmer(JavaPlugin plugin, HHMConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.holdTicks = Math.max(20L, config.prewarmHoldSeconds() * 20L);
+        this.maxPerPlayer = config.prewarmMaxPerPlayer();
+        this.maxGlobal = config.prewarmMaxGlobal();
+    }
+
+    /**
+     * Prewarms a HuskHomes position (home/warp) a player is about to teleport to, if it's on this
+     * server. Cross-server destinations are left to the other backend.
+     */
+    public void prewarmLocal(Player p, Position position) {
+        if (closed || p == null || position == null || !config.prewarmLocalEnabled()) return;
+        if (maxPerPlayer <= 0) return;
+
+        String server = PositionAccessor.server(position);
+        if (!server.isBlank() && !server.equalsIgnoreCase(config.backendName())) return;
+
+        String worldName = PositionAccessor.world(position);
+        World world = worldName.isBlank() ? null : Bukkit.getWorld(worldName);
+        if (world == null) return;
+
+        double x = PositionAccessor.x(position);
+        double z = PositionAccessor.z(position);
+        if (Double.isNaN(x) || Double.isNaN(z)) return;
+
+        Hold hold = prewarmChunk(world, (int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+        if (hold == null) return;
+
+        Deque<Hold> mine = byPlayer.computeIfAbsent(p.getUniqueId(), u -> new ArrayDeque<>());
+        Hold evicted = null;
+        synchronized (mine) {
+            mine.removeIf(h -> h.key().equals(hold.key()) || !held.containsKey(h.key()));
+            mine.addLast(hold);
+            if (mine.size() > maxPerPlayer) evicted = mine.pollFirst();
+        }
+        if (evicted != null) releaseSoon(evicted);
+    }
+
+    /**
+     * Starts loading the chunk containing (blockX, blockZ). Safe to call from any thread.
+     */
+    public void prewarm(World world, double blockX, double blockZ) {
+        if (closed || world == null || Double.isNaN(blockX) || Double.isNaN(blockZ)) return;
+        prewarmChunk(world, (int) Math.floor(blockX) >> 4, (int) Math.floor(blockZ) >> 4);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        // their holds still time out on their own
+        byPlayer.remove(e.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Releases every held chunk (reload / disable).
+     */
+    public void shutdown() {
+        closed = true;
+        // on disable the scheduler no longer takes our tasks, and Bukkit drops our tickets itself
+        if (!plugin.isEnabled()) {
+            held.clear();
+            byPlayer.clear();
+            return;
+        }
+        for (ChunkKey key : held.keySet()) {
+            World world = Bukkit.getWorld(key.world());
+            if (world == null) continue;
+            Sched.runAt(centre(world, key), () -> removeTicket(world, key));
+        }
+        held.clear();
+        byPlayer.clear();
+    }
+
+    // -------------------------
+    // Internals
+    // -------------------------
+
+    // null = nothing started (closed / global limit reached)
+    private Hold prewarmChunk(World world, int chunkX, int chunkZ) {
+        if (closed) return null;
+
+        ChunkKey key = new ChunkKey(world.getUID(), chunkX, chunkZ);
+        if (maxGlobal > 0 && held.size() >= maxGlobal && !held.containsKey(key)) return null;
+
+        Hold hold = new Hold(key, tokens.incrementAndGet());
+        boolean fresh = held.put(key, hold.token()) == null;
+
+        Location at = centre(world, key);
+        if (!fresh) {
+            // already loading/held: the newer token takes over the release
+            Sched.laterAt(at, holdTicks, () -> release(world, hold));
+            return hold;
+        }
+
+        try {
+            // completes on the thread that owns the chunk, so the ticket can be added right there
+            world.getChunkAtAsync(chunkX, chunkZ).whenComplete((chunk, err) -> {
+                if (err != null || chunk == null || closed) {
+                    held.remove(key, hold.token());
+                    return;
+                }
+                // a slow load can finish after the hold already ran out
+                if (!held.containsKey(key)) return;
+                try { chunk.addPluginChunkTicket(plugin); } catch (Throwable ignored) {}
+            });
+        } catch (Throwable t) {
+            held.remove(key);
+            return null;
+        }
+
+        Sched.laterAt(at, holdTicks, () -> release(world, hold));
+        return hold;
+    }
+
+    private void releaseSoon(Hold hold) {
+        World world = Bukkit.getWorld(hold.key().world());
+        if (world == null) {
+            held.remove(hold.key(), hold.token());
+            return;
+        }
+        Sched.runAt(centre(world, hold.key()), () -> release(world, hold));
+    }
+
+    // on the chunk's region thread
+    private void release(World world, Hold hold) {
+        if (!held.remove(hold.key(), hold.token())) return;
+        removeTicket(world, hold.key());
+    }
+
+    private void removeTicket(World world, ChunkKey key) {
+        try { world.removePluginChunkTicket(key.x(), key.z(), plugin); } catch (Throwable ignored) {}
+    }
+
+    private static Location centre(World world, ChunkKey key) {
+        return new Location(world, (key.x() << 4) + 8, 64, (key.z() << 4) + 8);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A legacy &-colored line deserialized into a Component once, with placeholder tokens left as
+ * plain text "holes". Italics are normalized at parse time (disabled unless the line uses &o/§o).
+ *
+ * Rendering a static line returns the shared (immutable) Component as-is; lines with placeholders
+ * only run a text replacement over the pre-built tree.
+ */
+public final class ComponentTemplate {
+
+    private static final LegacyComponentSerializer AMP = LegacyComponentSerializer.legacyAmpersand();
+
+    // Values for the replacement below (render may run on several region threads on Folia)
+    private static final ThreadLocal<TextTemplate.Values> CURRENT = new ThreadLocal<>();
+
+    private static final TextReplacementConfig PLACEHOLDERS = TextReplacementConfig.builder()
+            .match(tokenPattern())
+            .replacement((match, builder) -> {
+                String token = match.group();
+                TextTemplate.Values values = CURRENT.get();
+                String v = (values == null) ? null : values.get(TextTemplate.Key.byToken(token));
+                if (v == null) return Component.text(token);
+
+                // Values may carry their own legacy colors (e.g. warp descriptions)
+                if (v.indexOf('&') >= 0) return AMP.deserialize(v);
+                return Component.text(v);
+            })
+            .build();
+
+    private static final ComponentTemplate EMPTY = new ComponentTemplate(TextTemplate.compile(""));
+
+    private final TextTemplate text;
+    private final Component parsed;
+
+    private ComponentTemplate(TextTemplate text) {
+        this.text = text;
+
+        String raw = text.raw();
+        boolean wantsItalic = raw.contains("&o") || raw.contains("§o");
+
+        Component c = AMP.deserialize(raw);
+        this.parsed = wantsItalic ? c : c.decoration(TextDecoration.ITALIC, false);
+    }
+
+    public static ComponentTemplate of(TextTemplate text) {
+        if (text == null || text.raw().isEmpty()) return EMPTY;
+        return new ComponentTemplate(text);
+    }
+
+    public static ComponentTemplate compile(String raw) {
+        return of(TextTemplate.compile(raw));
+    }
+
+    public static List<ComponentTemplate> ofAll(List<TextTemplate> lines) {
+        if (lines == null || lines.isEmpty()) return List.of();
+        List<ComponentTemplate> out = new ArrayList<>(lines.size());
+        for (TextTemplate line : lines) out.add(of(line));
+        return List.copyOf(out);
+    }
+
+    public TextTemplate text() { return text; }
+
+    /** True if this line renders to nothing but whitespace for the given values. */
+    public boolean isBlank(TextTemplate.Values values) {
+        return text.isBlank(values);
+    }
+
+    public Component render(TextTemplate.Values values) {
+        if (text.isStatic()) return parsed;
+
+        CURRENT.set(values);
+        try {
+            return parsed.replaceText(PLACEHOLDERS);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    private static Pattern tokenPattern() {
+        StringBuilder sb = new StringBuilder();
+        for (TextTemplate.Key k : TextTemplate.Key.values()) {
+            if (sb.length() > 0) sb.append('|');
+            sb.append(Pattern.quote(k.token()));
+        }
+        return Pattern.compile(sb.toString());
+    }
+}
@@ -60,6 +60,13 @@ public final class ConfirmRequestMenu implements Listener {
 
     // viewerUuid -> session
     private final ConcurrentHashMap<UUID, Session> sessions = new ConcurrentHashMap<>();
+
+    // raw config string -> compiled template
+    private final ConcurrentHashMap<String, ComponentTemplate> components = new ConcurrentHashMap<>();
+
+    // filler/deny/accept are identical for every request from the same sender; build once, clone out
+    private static final int MAX_SIMPLE_PROTOTYPES = 256;
+    private final ConcurrentHashMap<SimpleItemKey, ItemStack> simplePrototypes = new ConcurrentHashMap<>();
     // ------------------------------------------------------------------
 
     public ConfirmRequestMenu(HuskHomesMenus plugin, HHMConfig config, ProxyPlayerCache playerCache) {
@@ -105,13 +112,15 @@ public final class ConfirmRequestMenu implements Listener {
         String region = resolveRegion(senderName, senderLocal);
         String dimension = resolveDimension(target, senderName, senderLocal);
 
+        final TextTemplate.Values repl = values(senderName, dimension, region);
+
         // filler
         boolean useFiller = menu.getBoolean("use_filler", false);
         if (useFiller) {
             ConfigurationSection fill = menu.getConfigurationSection("filler");
             ItemStack filler = buildSimpleItem(fill,
                     Material.GRAY_STAINED_GLASS_PANE, " ", List.of(), false, 0,
-                    Map.of("%sender%", safe(senderName), "%dimension_name%", safe(dimension), "%region%", safe(region)));
+                    repl);
             for (int i = 0; i < inv.getSize(); i++) inv.setItem(i, filler);
         }
 
@@ -169,7 +178,7 @@ public final class ConfirmRequestMenu implements Listener {
             ItemStack item = buildSimpleItem(deny.getConfigurationSection("item"),
                     Material.RED_STAINED_GLASS_PANE, "&c&lCANCEL",
                     List.of("&7Click to cancel the teleport"), false, 0,
-                    Map.of("%sender%", safe(senderName), "%dimension_name%", safe(dimension), "%region%", safe(region)));
+                    repl);
             if (slot >= 0 && slot < inv.getSize()) inv.setItem(slot, item);
         }
 
@@ -180,7 +189,7 @@ public final class ConfirmRequestMenu implements Listener {
             ItemStack item = buildSimpleItem(accept.getConfigurationSection("item"),
                     Material.LIME_STAINED_GLASS_PANE, "&a&lCONFIRM",
                     List.of("&7Click to accept %sender%'s request"), false, 0,
-                    Map.of("%sender%", safe(senderName), "%dimension_name%", safe(dimension), "%region%", safe(region)));
+                    repl);
             if (slot >= 0 && slot < inv.getSize()) inv.setItem(slot, item);
         }
 
@@ -788,11 +797,11 @@ public final class ConfirmRequestMenu implements Listener {
                 }
             }
 
-            meta.displayName(legacyToComponentNoItalic(apply(name, senderName, dimension, region)));
+            TextTemplate.Values v = values(senderName, dimension, region);
+            meta.displayName(component(name).render(v));
 
-            List<String> loreLines = applyAll(lore, senderName, dimension, region);
-            List<Component> loreComps = new ArrayList<>(loreLines.size());
-            for (String line : loreLines) loreComps.add(legacyToComponentNoItalic(line));
+            List<Component> loreComps = new ArrayList<>(lore.size());
+            for (String line : lore) loreComps.add(component(line).render(v));
             meta.lore(loreComps.isEmpty() ? null : loreComps);
 
             skull.setItemMeta(meta);
@@ -832,11 +841,11 @@ public final class ConfirmRequestMenu implements Listener {
             pdc.set(KEY_DIM_NETHER, PersistentDataType.STRING, netherMat);
             pdc.set(KEY_DIM_END, PersistentDataType.STRING, endMat);
 
-            meta.displayName(legacyToComponentNoItalic(apply(name, senderName, dimension, region)));
+            TextTemplate.Values v = values(senderName, dimension, region);
+            meta.displayName(component(name).render(v));
 
-            List<String> loreLines = applyAll(lore, senderName, dimension, region);
-            List<Component> loreComps = new ArrayList<>(loreLines.size());
-            for (String line : loreLines) loreComps.add(legacyToComponentNoItalic(line));
+            List<Component> loreComps = new ArrayList<>(lore.size());
+            for (String line : lore) loreComps.add(component(line).render(v));
             meta.lore(loreComps.isEmpty() ? null : loreComps);
 
             it.setItemMeta(meta);
@@ -852,11 +861,11 @@ public final class ConfirmRequestMenu implements Listener {
         ItemStack it = new ItemStack(mat);
         ItemMeta meta = it.getItemMeta();
         if (meta != null) {
-            meta.displayName(legacyToComponentNoItalic(apply(name, senderName, dimension, region)));
+            TextTemplate.Values v = values(senderName, dimension, region);
+            meta.displayName(component(name).render(v));
 
-            List<String> loreLines = applyAll(lore, senderName, dimension, region);
-            List<Component> loreComps = new ArrayList<>(loreLines.size());
-            for (String line : loreLines) loreComps.add(legacyToComponentNoItalic(line));
+            List<Component> loreComps = new ArrayList<>(lore.size());
+            for (String line : lore) loreComps.add(component(line).render(v));
             meta.lore(loreComps.isEmpty() ? null : loreComps);
 
             it.setItemMeta(meta);
@@ -870,7 +879,33 @@ public final class ConfirmRequestMenu implements Listener {
                                       List<String> fallbackLore,
                                       boolean fallbackGlow,
                                       int fallbackCmd,
-                                      Map<String, String> repl) {
+                                      TextTemplate.Values repl) {
+        SimpleItemKey key = new SimpleItemKey(
+                (sec == null) ? null : sec.getCurrentPath(),
+                fallbackName,
+                repl.get(TextTemplate.Key.SENDER),
+                repl.get(TextTemplate.Key.DIMENSION_NAME),
+                repl.get(TextTemplate.Key.REGION)
+        );
+
+        ItemStack proto = simplePrototypes.get(key);
+        if (proto == null) {
+            proto = buildSimpleItemUncached(sec, fallbackMat, fallbackName, fallbackLore, fallbackGlow, fallbackCmd, repl);
+            if (simplePrototypes.size() >= MAX_SIMPLE_PROTOTYPES) simplePrototypes.clear();
+            simplePrototypes.put(key, proto);
+        }
+        return proto.clone();
+    }
+
+    private record SimpleItemKey(String path, String fallbackName, String sender, String dimension, String region) {}
+
+    private ItemStack buildSimpleItemUncached(ConfigurationSection sec,
+                                              Material fallbackMat,
+                                              String fallbackName,
+                                              List<String> fallbackLore,
+                                              boolean fallbackGlow,
+                                              int fallbackCmd,
+                                              TextTemplate.Values repl) {
         if (sec == null) {
             return simple(fallbackMat, fallbackName, fallbackLore, fallbackGlow, fallbackCmd, repl);
         }
@@ -884,24 +919,21 @@ public final class ConfirmRequestMenu implements Listener {
         return simple(mat, name, lore, glow, cmd, repl);
     }
 
-    private ItemStack simple(Material mat, String name, List<String> lore, boolean glow, int cmd, Map<String, String> repl) {
+    private ItemStack simple(Material mat, String name, List<String> lore, boolean glow, int cmd, TextTemplate.Values repl) {
         ItemStack it = new ItemStack(mat);
         ItemMeta meta = it.getItemMeta();
         if (meta != null) {
-            meta.displayName(legacyToComponentNoItalic(replaceAll(name, repl)));
+            meta.displayName(component(name).render(repl));
 
             List<Component> outLore = new ArrayList<>();
             for (String l : lore) {
-                outLore.add(legacyToComponentNoItalic(replaceAll(l, repl)));
+                outLore.add(component(l).render(repl));
             }
             if (!outLore.isEmpty()) meta.lore(outLore);
 
             if (cmd > 0) meta.setCustomModelData(cmd);
 
-            if (glow) {
-                meta.addEnchant(org.bukkit.enchantments.Enchantment.LUCK_OF_THE_SEA, 1, true);
-                meta.addItemFlags(org.bukkit.inventory.ItemFlag.HIDE_ENCHANTS);
-            }
+            if (glow) HHMConfig.applyGlow(meta);
 
             it.setItemMeta(meta);
         }
@@ -1081,17 +1113,16 @@ public final class ConfirmRequestMenu implements Listener {
     // ---------------------------
     // Placeholder helpers
     // ---------------------------
-    private String apply(String s, String sender, String dimension, String region) {
-        return config.color(s)
-                .replace("%sender%", safe(sender))
-                .replace("%dimension_name%", safe(dimension))
-                .replace("%region%", safe(region));
+    private TextTemplate.Values values(String sender, String dimension, String region) {
+        return new TextTemplate.Values()
+                .set(TextTemplate.Key.SENDER, safe(sender))
+                .set(TextTemplate.Key.DIMENSION_NAME, safe(dimension))
+                .set(TextTemplate.Key.REGION, safe(region));
     }
 
-    private List<String> applyAll(List<String> lore, String sender, String dimension, String region) {
-        List<String> out = new ArrayList<>();
-        for (String l : lore) out.add(apply(l, sender, dimension, region));
-        return out;
+    // Config strings are compiled once per menu instance (recreated on /hhm reload)
+    private ComponentTemplate component(String raw) {
+        return components.computeIfAbsent(raw == null ? "" : raw, ComponentTemplate::compile);
     }
 
     private String safe(String s) {
@@ -1145,12 +1176,6 @@ public final class ConfirmRequestMenu implements Listener {
         return List.of();
     }
 
-    private static String replaceAll(String s, Map<String, String> repl) {
-        String out = (s == null) ? "" : s;
-        for (var e : repl.entrySet()) out = out.replace(e.getKey(), e.getValue());
-        return out;
-    }
-
     public static final class ConfirmHolder implements InventoryHolder {
         private final String senderName;
         private final RequestType type;
@@ -37,8 +37,24 @@ public final class HHMConfig {
     // Supports legacy & color codes (e.g., "&cHello")
     private static final LegacyComponentSerializer AMP = LegacyComponentSerializer.legacyAmpersand();
 
+    // Minecraft shows the default item name for an empty display name
+    private static final Component BLANK_NAME = Component.text(" ").decoration(TextDecoration.ITALIC, false);
+
+    // Parsed once per config load (a new HHMConfig is created on enable and on /hhm reload)
+    private final EnumMap<TemplateId, MenuItemTemplate> templates = new EnumMap<>(TemplateId.class);
+    private final List<TextTemplate> createHomeSignLines;
+
+    // warp name -> override item (parsed lazily, at most once per warp per config load)
+    private final Map<String, Optional<MenuItemTemplate>> warpOverrideItems = new java.util.concurrent.ConcurrentHashMap<>();
+
+    // (template, resolved placeholders) -> finished item; handed out as clones
+    private static final int MAX_ITEM_PROTOTYPES = 1024;
+    private final Map<PrototypeKey, ItemStack> itemPrototypes = new java.util.concurrent.ConcurrentHashMap<>();
+
     public HHMConfig(JavaPlugin plugin) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
+        loadTemplates();
+        this.createHomeSignLines = loadCreateHomeSignLines();
     }
 
     public boolean debug() {
@@ -54,6 +70,38 @@ public final class HHMConfig {
         return plugin.getConfig().getString("backend_name", "backend");
     }
 
+    /**
+     * Send the destination backend an "incoming player" hint when a cross-server warp is clicked.
+     */
+    public boolean proxyPrewarmWarps() {
+        return proxyEnabled() && plugin.getConfig().getBoolean("proxy.prewarm_warps", true);
+    }
+
+    /**
+     * How long a prewarmed destination chunk is kept loaded waiting for the player.
+     */
+    public int prewarmHoldSeconds() {
+        return Math.max(1, plugin.getConfig().getInt("prewarm.hold_seconds", 30));
+    }
+
+    /**
+     * Preload same-server home/warp destinations when they're clicked in the menus.
+     */
+    public boolean prewarmLocalEnabled() {
+        return plugin.getConfig().getBoolean("prewarm.local.enabled", true);
+    }
+
+    public int prewarmMaxPerPlayer() {
+        return Math.max(0, plugin.getConfig().getInt("prewarm.local.max_per_player", 2));
+    }
+
+    /**
+     * Cap on chunks held at once across all players (incl. hints from other servers); 0 = no cap.
+     */
+    public int prewarmMaxGlobal() {
+        return Math.max(0, plugin.getConfig().getInt("prewarm.max_global", 32));
+    }
+
     /**
      * Prefix as a legacy-colored String (kept for backwards compatibility).
      */
@@ -136,10 +184,7 @@ public final class HHMConfig {
     }
 
     public MenuItemTemplate homesFillerItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.filler"),
-                new MenuItemTemplate(Material.GRAY_STAINED_GLASS_PANE, " ", Collections.emptyList(), false, 0)
-        );
+        return template(TemplateId.HOMES_FILLER);
     }
 
     // Layout
@@ -170,34 +215,22 @@ public final class HHMConfig {
 
     /** Bed shown when a home EXISTS (click to teleport). */
     public MenuItemTemplate homesTeleportItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.home_items.teleport"),
-                new MenuItemTemplate(Material.BLUE_BED, "&f%home_name%", List.of("&7Click to teleport"), false, 0)
-        );
+        return template(TemplateId.HOMES_TELEPORT);
     }
 
     /** Bed shown when a home does NOT exist (above the empty_action item). */
     public MenuItemTemplate homesEmptyBedItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.home_items.empty_bed"),
-                new MenuItemTemplate(Material.WHITE_BED, " ", Collections.emptyList(), false, 0)
-        );
+        return template(TemplateId.HOMES_EMPTY_BED);
     }
 
     /** Action shown when NO home exists (save location). */
     public MenuItemTemplate homesEmptyActionItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.home_items.empty_action"),
-                new MenuItemTemplate(Material.GRAY_DYE, "&fNO HOME SET", List.of("&7- Click to save your location"), false, 0)
-        );
+        return template(TemplateId.HOMES_EMPTY_ACTION);
     }
 
     /** Action shown when home exists (delete). */
     public MenuItemTemplate homesDeleteActionItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.home_items.delete_action"),
-                new MenuItemTemplate(Material.LIGHT_BLUE_DYE, "&b%home_name%", List.of("&fClick to delete %home_name%"), false, 0)
-        );
+        return template(TemplateId.HOMES_DELETE_ACTION);
     }
 
     // Navigation
@@ -211,31 +244,59 @@ public final class HHMConfig {
     public int homesNavCloseSlot() { return plugin.getConfig().getInt("menus.homes.navigation.close_slot", 35); }
 
     public MenuItemTemplate homesNavPrevItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.navigation.prev_item"),
-                new MenuItemTemplate(Material.ARROW, "&ePrevious", List.of("&7Go to page %prev_page%"), false, 0)
-        );
+        return template(TemplateId.HOMES_NAV_PREV);
     }
 
     public MenuItemTemplate homesNavPageItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.navigation.page_item"),
-                new MenuItemTemplate(Material.PAPER, "&fPage &a%page%&f/&a%pages%", List.of("&7Max homes: &f%max_homes%"), false, 0)
-        );
+        return template(TemplateId.HOMES_NAV_PAGE);
     }
 
     public MenuItemTemplate homesNavNextItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.navigation.next_item"),
-                new MenuItemTemplate(Material.ARROW, "&eNext", List.of("&7Go to page %next_page%"), false, 0)
-        );
+        return template(TemplateId.HOMES_NAV_NEXT);
     }
 
     public MenuItemTemplate homesNavCloseItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.homes.navigation.close_item"),
-                new MenuItemTemplate(Material.BARRIER, "&cClose", List.of("&7Close this menu"), false, 0)
-        );
+        return template(TemplateId.HOMES_NAV_CLOSE);
+    }
+
+    // Delete confirmation
+    public MenuItemTemplate homesDeleteConfirmFillerItem() {
+        return template(TemplateId.HOMES_DELETE_CONFIRM_FILLER);
+    }
+
+    public MenuItemTemplate homesDeleteConfirmCancelItem() {
+        return template(TemplateId.HOMES_DELETE_CONFIRM_CANCEL);
+    }
+
+    public MenuItemTemplate homesDeleteConfirmHomeItem() {
+        return template(TemplateId.HOMES_DELETE_CONFIRM_HOME);
+    }
+
+    public MenuItemTemplate homesDeleteConfirmConfirmItem() {
+        return template(TemplateId.HOMES_DELETE_CONFIRM_CONFIRM);
+    }
+
+    // Create-home sign prompt
+
+    /** Always 4 compiled lines (menus.homes.create_home_sign.lines, padded with defaults). */
+    public List<TextTemplate> homesCreateSignLines() {
+        return createHomeSignLines;
+    }
+
+    private List<TextTemplate> loadCreateHomeSignLines() {
+        List<String> cfg = plugin.getConfig().getStringList("menus.homes.create_home_sign.lines");
+
+        String l1 = cfg.size() > 0 ? cfg.get(0) : "&7^^^^^^^^^^^^^^^";
+        String l2 = cfg.size() > 1 ? cfg.get(1) : "&bName your home";
+        String l3 = cfg.size() > 2 ? cfg.get(2) : "";
+        String l4 = cfg.size() > 3 ? cfg.get(3) : "";
+
+        return TextTemplate.compileAll(List.of(
+                l1 == null ? "" : l1,
+                l2 == null ? "" : l2,
+                l3 == null ? "" : l3,
+                l4 == null ? "" : l4
+        ));
     }
 
     // ---------------------------------------------------------------------
@@ -260,10 +321,7 @@ public final class HHMConfig {
     }
 
     public MenuItemTemplate warpsFillerItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.filler"),
-                new MenuItemTemplate(Material.GRAY_STAINED_GLASS_PANE, " ", Collections.emptyList(), false, 0)
-        );
+        return template(TemplateId.WARPS_FILLER);
     }
 
     public List<Integer> warpsItemSlots(int rows) {
@@ -284,24 +342,15 @@ public final class HHMConfig {
     }
 
     public MenuItemTemplate warpsTeleportItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.warp_items.teleport"),
-                new MenuItemTemplate(Material.ENDER_PEARL, "&b%warp_name%", List.of("&7Click to warp"), false, 0)
-        );
+        return template(TemplateId.WARPS_TELEPORT);
     }
 
     public MenuItemTemplate warpsLockedItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.warp_items.locked"),
-                new MenuItemTemplate(Material.BARRIER, "&c%warp_name%", List.of("&7You don't have permission."), false, 0)
-        );
+        return template(TemplateId.WARPS_LOCKED);
     }
 
     public MenuItemTemplate warpsEmptyItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.warp_items.empty"),
-                new MenuItemTemplate(Material.GRAY_DYE, "&7No warps available", Collections.emptyList(), false, 0)
-        );
+        return template(TemplateId.WARPS_EMPTY);
     }
 
     // Click behavior for warp items
@@ -336,31 +385,122 @@ public final class HHMConfig {
     }
 
     public MenuItemTemplate warpsNavPrevItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.navigation.prev_item"),
-                new MenuItemTemplate(Material.ARROW, "&ePrevious", List.of("&7Go to page %prev_page%"), false, 0)
-        );
+        return template(TemplateId.WARPS_NAV_PREV);
     }
 
     public MenuItemTemplate warpsNavPageItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.navigation.page_item"),
-                new MenuItemTemplate(Material.PAPER, "&fPage &a%page%&f/&a%pages%", List.of("&7Warps: &f%total_warps%"), false, 0)
-        );
+        return template(TemplateId.WARPS_NAV_PAGE);
     }
 
     public MenuItemTemplate warpsNavNextItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.navigation.next_item"),
-                new MenuItemTemplate(Material.ARROW, "&eNext", List.of("&7Go to page %next_page%"), false, 0)
-        );
+        return template(TemplateId.WARPS_NAV_NEXT);
     }
 
     public MenuItemTemplate warpsNavCloseItem() {
-        return MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection("menus.warps.navigation.close_item"),
-                new MenuItemTemplate(Material.BARRIER, "&cClose", List.of("&7Close this menu"), false, 0)
-        );
+        return template(TemplateId.WARPS_NAV_CLOSE);
+    }
+
+    // Search (menus.warps.search)
+    public boolean warpsSearchEnabled() {
+        return plugin.getConfig().getBoolean("menus.warps.search.enabled", true);
+    }
+
+    public int warpsSearchSlot() { return plugin.getConfig().getInt("menus.warps.search.slot", 27); }
+
+    public String warpsSearchTitle() {
+        return plugin.getConfig().getString("menus.warps.search.title", "&8Warps: &7%query%");
+    }
+
+    public MenuItemTemplate warpsSearchItem() {
+        return template(TemplateId.WARPS_SEARCH);
+    }
+
+    public Material warpsSearchSignMaterial() {
+        String name = plugin.getConfig().getString("menus.warps.search.sign.material", "OAK_SIGN");
+        Material m = (name == null) ? null : Material.matchMaterial(name.trim());
+        return (m == null || !m.name().endsWith("_SIGN")) ? Material.OAK_SIGN : m;
+    }
+
+    // Line 1 is where the player types; the rest are instructions
+    public String[] warpsSearchSignLines() {
+        List<String> cfg = plugin.getConfig().getStringList("menus.warps.search.sign.lines");
+        if (cfg == null || cfg.isEmpty()) cfg = List.of("", "^^^^^^^^^^^^^^^", "Search warps", "");
+
+        String[] out = new String[4];
+        for (int i = 0; i < out.length; i++) {
+            String l = i < cfg.size() ? cfg.get(i) : null;
+            out[i] = l == null ? "" : l;
+        }
+        return out;
+    }
+
+    // Favourites + recent (menus.warps.favourites)
+    public boolean warpsFavouritesEnabled() {
+        return plugin.getConfig().getBoolean("menus.warps.favourites.enabled", true);
+    }
+
+    public int warpsFavouritesMax() {
+        return Math.max(0, Math.min(54, plugin.getConfig().getInt("menus.warps.favourites.max", 14)));
+    }
+
+    public int warpsRecentMax() {
+        return Math.max(0, Math.min(54, plugin.getConfig().getInt("menus.warps.favourites.recent_max", 7)));
+    }
+
+    // /warps opens on the favourites view when the player has any
+    public boolean warpsFavouritesOpenFirst() {
+        return plugin.getConfig().getBoolean("menus.warps.favourites.open_first", true);
+    }
+
+    public int warpsFavouritesSlot() { return plugin.getConfig().getInt("menus.warps.favourites.slot", 28); }
+
+    public String warpsFavouritesTitle() {
+        return plugin.getConfig().getString("menus.warps.favourites.title", "&8Warps: &7Favourites");
+    }
+
+    public MenuItemTemplate warpsFavouritesItem() {
+        return template(TemplateId.WARPS_FAVOURITES);
+    }
+
+    public MenuItemTemplate warpsAllItem() {
+        return template(TemplateId.WARPS_ALL);
+    }
+
+    // Categories (menus.warps.categories)
+    public boolean warpsCategoriesEnabled() {
+        return plugin.getConfig().getBoolean("menus.warps.categories.enabled", true);
+    }
+
+    public int warpsCategoriesSlot() { return plugin.getConfig().getInt("menus.warps.categories.slot", 34); }
+
+    public String warpsCategoriesTitle() {
+        return plugin.getConfig().getString("menus.warps.categories.title", "&8Warps: &7%warp_category%");
+    }
+
+    public MenuItemTemplate warpsCategoryItem() {
+        return template(TemplateId.WARPS_CATEGORY);
+    }
+
+    /**
+     * menus.warps.sort.mode (NAME_ASC, NAME_DESC, SERVER, CATEGORY, WEIGHT); NAME_ASC when sorting is disabled.
+     */
+    public String warpsSortMode() {
+        if (!plugin.getConfig().getBoolean("menus.warps.sort.enabled", false)) return "NAME_ASC";
+        String mode = plugin.getConfig().getString("menus.warps.sort.mode", "NAME_ASC");
+        return (mode == null || mode.isBlank()) ? "NAME_ASC" : mode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // menus.warps.warp_overrides.<warp>.category ("" if none)
+    public String warpCategory(String warpName) {
+        ConfigurationSection override = warpOverrideSection(warpName);
+        String c = (override == null) ? null : override.getString("category", "");
+        return c == null ? "" : c.trim();
+    }
+
+    // menus.warps.warp_overrides.<warp>.weight (0 if none)
+    public int warpSortWeight(String warpName) {
+        ConfigurationSection override = warpOverrideSection(warpName);
+        return (override == null) ? 0 : override.getInt("weight", 0);
     }
 
     // Per-warp override section: menus.warps.warp_overrides.<warpName>
@@ -369,6 +509,19 @@ public final class HHMConfig {
         return plugin.getConfig().getConfigurationSection("menus.warps.warp_overrides." + warpName);
     }
 
+    /**
+     * Per-warp override item (menus.warps.warp_overrides.&lt;warp&gt;.item) layered over the teleport template.
+     * Returns null if the warp has no override item.
+     */
+    public MenuItemTemplate warpOverrideItem(String warpName) {
+        if (warpName == null || warpName.isBlank()) return null;
+        return warpOverrideItems.computeIfAbsent(warpName, n -> {
+            ConfigurationSection override = warpOverrideSection(n);
+            if (override == null || !override.isConfigurationSection("item")) return Optional.empty();
+            return Optional.of(MenuItemTemplate.fromSection(override.getConfigurationSection("item"), warpsTeleportItem()));
+        }).orElse(null);
+    }
+
     // ---------------------------------------------------------------------
     // Item building (no-italics by default, unless explicitly requested)
     // ---------------------------------------------------------------------
@@ -383,11 +536,18 @@ public final class HHMConfig {
         return wantsItalic ? c : c.decoration(TextDecoration.ITALIC, false);
     }
 
+    /**
+     * Build an ItemStack from a template with no placeholder values.
+     */
+    public ItemStack buildItem(MenuItemTemplate t) {
+        return buildItem(t, null);
+    }
+
     /**
      * Build an ItemStack from a template + placeholders.
-     * Placeholders are applied to name and lore.
+     * Placeholders are applied to the pre-compiled name and lore lines.
      */
-    public ItemStack buildItem(MenuItemTemplate t, Map<String, String> placeholders) {
+    public ItemStack buildItem(MenuItemTemplate t, TextTemplate.Values placeholders) {
         if (t == null) return null;
 
         final Material mat = (t.material() == null) ? Material.STONE : t.material();
@@ -396,18 +556,15 @@ public final class HHMConfig {
         final ItemMeta meta = item.getItemMeta();
         if (meta == null) return item;
 
-        final String name = applyPlaceholders(t.name(), placeholders);
-        final String safeName = (name == null || name.isBlank()) ? " " : name;
+        final ComponentTemplate name = t.nameComponent();
+        meta.displayName(name.isBlank(placeholders) ? BLANK_NAME : name.render(placeholders));
 
-        meta.displayName(legacyToComponentNoItalic(safeName));
-
-        final List<String> rawLore = (t.lore() == null) ? Collections.emptyList() : t.lore();
+        final List<ComponentTemplate> rawLore = t.loreComponents();
         if (!rawLore.isEmpty()) {
             final List<Component> loreComponents = new ArrayList<>(rawLore.size());
-            for (String line : rawLore) {
-                String applied = applyPlaceholders(line, placeholders);
-                if (applied != null && !applied.isBlank()) {
-                    loreComponents.add(legacyToComponentNoItalic(applied));
+            for (ComponentTemplate line : rawLore) {
+                if (!line.isBlank(placeholders)) {
+                    loreComponents.add(line.render(placeholders));
                 }
             }
             meta.lore(loreComponents.isEmpty() ? null : loreComponents);
@@ -425,20 +582,74 @@ public final class HHMConfig {
         return item;
     }
 
-    private void applyGlow(ItemMeta meta) {
+    /**
+     * Same as {@link #buildItem(MenuItemTemplate, TextTemplate.Values)}, but the finished item is kept
+     * as a prototype and cloned out. Static items (filler, nav, empty slots) are built once per config load.
+     */
+    public ItemStack cachedItem(MenuItemTemplate t, TextTemplate.Values placeholders) {
+        if (t == null) return null;
+
+        final PrototypeKey key = new PrototypeKey(t, t.resolvedPlaceholders(placeholders));
+        ItemStack proto = itemPrototypes.get(key);
+        if (proto == null) {
+            proto = buildItem(t, placeholders);
+            if (proto == null) return null;
+
+            // Per-home/per-player values can keep producing new keys; don't let that grow forever
+            if (itemPrototypes.size() >= MAX_ITEM_PROTOTYPES) itemPrototypes.clear();
+            itemPrototypes.put(key, proto);
+        }
+        return proto.clone();
+    }
+
+    public ItemStack cachedItem(MenuItemTemplate t) {
+        return cachedItem(t, null);
+    }
+
+    // MenuItemTemplate uses identity equality, which is what we want (one instance per config load)
+    private record PrototypeKey(MenuItemTemplate template, List<String> resolved) {}
+
+    // ---------------------------------------------------------------------
+    // Glow (resolved once per JVM, not per item)
+    // ---------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface GlowStrategy {
+        void apply(ItemMeta meta);
+    }
+
+    private static final GlowStrategy GLOW = resolveGlowStrategy();
+
+    /**
+     * Makes an item glow using the best method the server supports.
+     */
+    static void applyGlow(ItemMeta meta) {
+        if (meta == null) return;
+        try {
+            GLOW.apply(meta);
+        } catch (Throwable ignored) {}
+    }
+
+    private static GlowStrategy resolveGlowStrategy() {
+        // Paper/Spigot 1.20.5+: glint override, no fake enchant (and nothing to hide)
         try {
-            Enchantment ench = resolveGlowEnchantNoDeprecation();
-            if (ench == null) return;
+            ItemMeta.class.getMethod("setEnchantmentGlintOverride", Boolean.class);
+            return meta -> meta.setEnchantmentGlintOverride(true);
+        } catch (Throwable ignored) {}
 
+        final Enchantment ench = resolveGlowEnchantNoDeprecation();
+        if (ench == null) return meta -> {};
+
+        return meta -> {
             meta.addEnchant(ench, 1, true);
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-        } catch (Throwable ignored) {}
+        };
     }
 
     /**
      * Resolve an enchantment for glow WITHOUT referencing deprecated methods/fields at compile time.
      */
-    private Enchantment resolveGlowEnchantNoDeprecation() {
+    private static Enchantment resolveGlowEnchantNoDeprecation() {
         try {
             Field f = Enchantment.class.getField("UNBREAKING");
             Object o = f.get(null);
@@ -460,18 +671,86 @@ public final class HHMConfig {
         return null;
     }
 
-    private String applyPlaceholders(String s, Map<String, String> ph) {
-        if (s == null) return "";
-        String out = s;
-        if (ph != null && !ph.isEmpty()) {
-            for (Map.Entry<String, String> e : ph.entrySet()) {
-                String k = e.getKey();
-                if (k == null) continue;
-                String v = e.getValue();
-                out = out.replace(k, v == null ? "" : v);
-            }
+    // ---------------------------------------------------------------------
+    // Template registry (parsed once per config load)
+    // ---------------------------------------------------------------------
+
+    public enum TemplateId {
+        HOMES_FILLER("menus.homes.filler",
+                new MenuItemTemplate(Material.GRAY_STAINED_GLASS_PANE, " ", Collections.emptyList(), false, 0)),
+        HOMES_TELEPORT("menus.homes.home_items.teleport",
+                new MenuItemTemplate(Material.BLUE_BED, "&f%home_name%", List.of("&7Click to teleport"), false, 0)),
+        HOMES_EMPTY_BED("menus.homes.home_items.empty_bed",
+                new MenuItemTemplate(Material.WHITE_BED, " ", Collections.emptyList(), false, 0)),
+        HOMES_EMPTY_ACTION("menus.homes.home_items.empty_action",
+                new MenuItemTemplate(Material.GRAY_DYE, "&fNO HOME SET", List.of("&7- Click to save your location"), false, 0)),
+        HOMES_DELETE_ACTION("menus.homes.home_items.delete_action",
+                new MenuItemTemplate(Material.LIGHT_BLUE_DYE, "&b%home_name%", List.of("&fClick to delete %home_name%"), false, 0)),
+        HOMES_NAV_PREV("menus.homes.navigation.prev_item",
+                new MenuItemTemplate(Material.ARROW, "&ePrevious", List.of("&7Go to page %prev_page%"), false, 0)),
+        HOMES_NAV_PAGE("menus.homes.navigation.page_item",
+                new MenuItemTemplate(Material.PAPER, "&fPage &a%page%&f/&a%pages%", List.of("&7Max homes: &f%max_homes%"), false, 0)),
+        HOMES_NAV_NEXT("menus.homes.navigation.next_item",
+                new MenuItemTemplate(Material.ARROW, "&eNext", List.of("&7Go to page %next_page%"), false, 0)),
+        HOMES_NAV_CLOSE("menus.homes.navigation.close_item",
+                new MenuItemTemplate(Material.BARRIER, "&cClose", List.of("&7Close this menu"), false, 0)),
+        HOMES_DELETE_CONFIRM_FILLER("menus.homes.delete_confirm.filler",
+                new MenuItemTemplate(Material.GRAY_STAINED_GLASS_PANE, " ", List.of(), false, 0)),
+        HOMES_DELETE_CONFIRM_CANCEL("menus.homes.delete_confirm.items.cancel",
+                new MenuItemTemplate(Material.RED_STAINED_GLASS_PANE, "&cCANCEL", List.of("&7Click to cancel!"), false, 0)),
+        HOMES_DELETE_CONFIRM_HOME("menus.homes.delete_confirm.items.home",
+                new MenuItemTemplate(Material.LIGHT_BLUE_DYE, "&bHOME %home_name%", List.of(), false, 0)),
+        HOMES_DELETE_CONFIRM_CONFIRM("menus.homes.delete_confirm.items.confirm",
+                new MenuItemTemplate(Material.LIME_STAINED_GLASS_PANE, "&aCONFIRM", List.of("&7Click to delete"), false, 0)),
+
+        WARPS_FILLER("menus.warps.filler",
+                new MenuItemTemplate(Material.GRAY_STAINED_GLASS_PANE, " ", Collections.emptyList(), false, 0)),
+        WARPS_TELEPORT("menus.warps.warp_items.teleport",
+                new MenuItemTemplate(Material.ENDER_PEARL, "&b%warp_name%", List.of("&7Click to warp"), false, 0)),
+        WARPS_LOCKED("menus.warps.warp_items.locked",
+                new MenuItemTemplate(Material.BARRIER, "&c%warp_name%", List.of("&7You don't have permission."), false, 0)),
+        WARPS_EMPTY("menus.warps.warp_items.empty",
+                new MenuItemTemplate(Material.GRAY_DYE, "&7No warps available", Collections.emptyList(), false, 0)),
+        WARPS_NAV_PREV("menus.warps.navigation.prev_item",
+                new MenuItemTemplate(Material.ARROW, "&ePrevious", List.of("&7Go to page %prev_page%"), false, 0)),
+        WARPS_NAV_PAGE("menus.warps.navigation.page_item",
+                new MenuItemTemplate(Material.PAPER, "&fPage &a%page%&f/&a%pages%", List.of("&7Warps: &f%total_warps%"), false, 0)),
+        WARPS_NAV_NEXT("menus.warps.navigation.next_item",
+                new MenuItemTemplate(Material.ARROW, "&eNext", List.of("&7Go to page %next_page%"), false, 0)),
+        WARPS_NAV_CLOSE("menus.warps.navigation.close_item",
+                new MenuItemTemplate(Material.BARRIER, "&cClose", List.of("&7Close this menu"), false, 0)),
+        WARPS_SEARCH("menus.warps.search.item",
+                new MenuItemTemplate(Material.OAK_SIGN, "&eSearch", List.of("&7Find a warp by name"), false, 0)),
+        WARPS_FAVOURITES("menus.warps.favourites.item",
+                new MenuItemTemplate(Material.NETHER_STAR, "&eFavourites", List.of("&7Your favourite and recent warps", "&7Shift-click a warp to favourite it"), false, 0)),
+        WARPS_ALL("menus.warps.favourites.all_item",
+                new MenuItemTemplate(Material.COMPASS, "&eAll warps", List.of("&7Back to the full list"), false, 0)),
+        WARPS_CATEGORY("menus.warps.categories.item",
+                new MenuItemTemplate(Material.BOOKSHELF, "&eCategory: &f%warp_category%", List.of("&7Click to switch category"), false, 0));
+
+        private final String path;
+        private final MenuItemTemplate def;
+
+        TemplateId(String path, MenuItemTemplate def) {
+            this.path = path;
+            this.def = def;
+        }
+
+        public String path() { return path; }
+        public MenuItemTemplate def() { return def; }
+    }
+
+    public MenuItemTemplate template(TemplateId id) {
+        if (id == null) return null;
+        MenuItemTemplate t = templates.get(id);
+        return t != null ? t : id.def();
+    }
+
+    private void loadTemplates() {
+        templates.clear();
+        for (TemplateId id : TemplateId.values()) {
+            templates.put(id, MenuItemTemplate.fromSection(plugin.getConfig().getConfigurationSection(id.path()), id.def()));
         }
-        return out;
     }
 
     // ---------------------------------------------------------------------
@@ -485,12 +764,30 @@ public final class HHMConfig {
         private final boolean glow;
         private final int customModelData;
 
+        // Tokenized + deserialized once when the template is created (i.e. once per config load)
+        private final TextTemplate nameTemplate;
+        private final List<TextTemplate> loreTemplates;
+        private final ComponentTemplate nameComponent;
+        private final List<ComponentTemplate> loreComponents;
+
+        // Placeholders referenced anywhere in name/lore (the only values that affect the built item)
+        private final TextTemplate.Key[] placeholderKeys;
+
         public MenuItemTemplate(Material material, String name, List<String> lore, boolean glow, int customModelData) {
             this.material = material;
             this.name = name == null ? "" : name;
             this.lore = lore == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(lore));
             this.glow = glow;
             this.customModelData = customModelData;
+            this.nameTemplate = TextTemplate.compile(this.name);
+            this.loreTemplates = TextTemplate.compileAll(this.lore);
+            this.nameComponent = ComponentTemplate.of(this.nameTemplate);
+            this.loreComponents = ComponentTemplate.ofAll(this.loreTemplates);
+
+            EnumSet<TextTemplate.Key> used = EnumSet.noneOf(TextTemplate.Key.class);
+            this.nameTemplate.collectKeys(used);
+            for (TextTemplate line : this.loreTemplates) line.collectKeys(used);
+            this.placeholderKeys = used.toArray(new TextTemplate.Key[0]);
         }
 
         public Material material() { return material; }
@@ -498,6 +795,20 @@ public final class HHMConfig {
         public List<String> lore() { return lore; }
         public boolean glow() { return glow; }
         public int customModelData() { return customModelData; }
+        public TextTemplate nameTemplate() { return nameTemplate; }
+        public List<TextTemplate> loreTemplates() { return loreTemplates; }
+        public ComponentTemplate nameComponent() { return nameComponent; }
+        public List<ComponentTemplate> loreComponents() { return loreComponents; }
+
+        /** The values this template would actually render with (empty for static templates). */
+        List<String> resolvedPlaceholders(TextTemplate.Values values) {
+            if (placeholderKeys.length == 0) return List.of();
+            String[] out = new String[placeholderKeys.length];
+            for (int i = 0; i < out.length; i++) {
+                out[i] = (values == null) ? null : values.get(placeholderKeys[i]);
+            }
+            return Arrays.asList(out);
+        }
 
         public static MenuItemTemplate fromSection(ConfigurationSection sec, MenuItemTemplate def) {
             if (sec == null) return def;
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.william278.huskhomes.api.HuskHomesAPI;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.util.ValidationException;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates/deletes homes through the HuskHomes API.
+ *
+ * HuskHomes' createHome/deleteHome write to the database on the calling thread, so they run
+ * off-thread here and the returned future completes when the write has actually finished.
+ *
+ * If HuskHomes rejects the request (name taken, limit reached...), the HuskHomes command is
+ * dispatched instead so the player still gets HuskHomes' own feedback, and the future completes
+ * with false. Any other failure completes the future exceptionally and is never retried through
+ * the command, since the write may already have been persisted.
+ *
+ * The command is also used when the API isn't available. That path has no completion signal, so
+ * it completes after a short fixed delay.
+ */
+final class HomeWriteAdapter {
+
+    private static final long COMMAND_SETTLE_TICKS = 12L;
+
+    private final JavaPlugin plugin;
+    private final HHMConfig config;
+
+    HomeWriteAdapter(JavaPlugin plugin, HHMConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Sets a home at the player's current position. Call on the player's thread.
+     */
+    CompletableFuture<Boolean> setHome(Player p, String homeName) {
+        final String command = "huskhomes:sethome " + homeName;
+        try {
+            HuskHomesAPI api = HuskHomesAPI.getInstance();
+            OnlineUser user = api.adaptUser(p);
+            Position pos = api.adaptPosition(p.getLocation());
+            if (user != null && pos != null) {
+                return write(p, command, () -> api.createHome(user, homeName, pos));
+            }
+        } catch (Throwable t) {
+            debug("setHome", t);
+        }
+        return dispatch(p, command);
+    }
+
+    /**
+     * Deletes one of the player's homes. Call on the player's thread.
+     */
+    CompletableFuture<Boolean> deleteHome(Player p, String homeName) {
+        final String command = "huskhomes:delhome " + homeName;
+        try {
+            HuskHomesAPI api = HuskHomesAPI.getInstance();
+            OnlineUser user = api.adaptUser(p);
+            if (user != null) {
+                return write(p, command, () -> api.deleteHome(user, homeName));
+            }
+        } catch (Throwable t) {
+            debug("deleteHome", t);
+        }
+        return dispatch(p, command);
+    }
+
+    // ---------------------------------------------------------------------
+    // Internals
+    // ---------------------------------------------------------------------
+
+    private CompletableFuture<Boolean> write(Player p, String command, Runnable apiCall) {
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        Sched.async(() -> {
+            try {
+                apiCall.run();
+                done.complete(true);
+            } catch (ValidationException rejected) {
+                debug(command, rejected);
+                // nothing was written; let HuskHomes explain the rejection to the player
+                Sched.run(p, () -> dispatch(p, command).whenComplete((ok, err) -> done.complete(false)));
+            } catch (Throwable t) {
+                debug(command, t);
+                done.completeExceptionally(t);
+            }
+        });
+        return done;
+    }
+
+    private CompletableFuture<Boolean> dispatch(Player p, String command) {
+        CompletableFuture<Boolean> cf = new CompletableFuture<>();
+        if (p == null || !p.isOnline()) {
+            cf.complete(false);
+            return cf;
+        }
+        try { Bukkit.dispatchCommand(p, command); } catch (Throwable ignored) {}
+        Sched.laterGlobal(COMMAND_SETTLE_TICKS, () -> cf.complete(true));
+        return cf;
+    }
+
+    private void debug(String what, Throwable t) {
+        if (!config.debug()) return;
+        Throwable cause = (t.getCause() != null) ? t.getCause() : t;
+        plugin.getLogger().warning("HuskHomes " + what + " failed: " + cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    }
+}
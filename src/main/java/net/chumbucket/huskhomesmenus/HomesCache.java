@@ -0,0 +1,347 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.william278.huskhomes.api.HuskHomesAPI;
+import net.william278.huskhomes.event.DeleteAllHomesEvent;
+import net.william278.huskhomes.event.HomeCreateEvent;
+import net.william278.huskhomes.event.HomeDeleteEvent;
+import net.william278.huskhomes.event.HomeEditEvent;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.User;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared per-player homes snapshot (menus, tab completion, placeholders).
+ *
+ * Homes are loaded on join and served from memory. Entries are dropped when HuskHomes fires a
+ * home create/delete/edit event for that owner. Those events fire before HuskHomes writes
+ * to its database, so the entry is dropped again a moment later to pick up the saved state.
+ *
+ * Menus can also record optimistic edits (a home being created or deleted) that are overlaid on
+ * the snapshot until the HuskHomes write settles, so the UI doesn't wait on the database.
+ *
+ * Refresh timing is in {@link HuskHomesRefresh}.
+ */
+public final class HomesCache implements Listener {
+
+    private final JavaPlugin plugin;
+    private final HHMConfig config;
+    private final long ttlMs;
+
+    private static final class Entry {
+        final CompletableFuture<List<Home>> future;
+        final long createdAtMs;
+        volatile List<String> names;
+
+        Entry(CompletableFuture<List<Home>> future, long createdAtMs) {
+            this.future = future;
+            this.createdAtMs = createdAtMs;
+        }
+    }
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * A home that is being created: its name and where the player stood when they set it.
+     */
+    public record PendingHome(String name, String world, String server, double x, double y, double z) {}
+
+    /**
+     * Optimistic edits for one player, keyed by lower-cased home name.
+     */
+    public static final class Pending {
+        private final ConcurrentHashMap<String, PendingHome> created = new ConcurrentHashMap<>();
+        private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+
+        public boolean isEmpty() { return created.isEmpty() && deleted.isEmpty(); }
+
+        public boolean isDeleted(String name) {
+            return name != null && deleted.contains(key(name));
+        }
+
+        public PendingHome created(String name) {
+            return name == null ? null : created.get(key(name));
+        }
+
+        public Collection<PendingHome> created() { return created.values(); }
+    }
+
+    private final ConcurrentHashMap<UUID, Pending> pending = new ConcurrentHashMap<>();
+
+    public HomesCache(JavaPlugin plugin, HHMConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.ttlMs = HuskHomesRefresh.ttlMs(config);
+    }
+
+    /**
+     * Registers this cache (join/quit + HuskHomes home events).
+     */
+    public void register() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    public void clear() {
+        entries.clear();
+        pending.clear();
+    }
+
+    // ---------------------------------------------------------------------
+    // Reads
+    // ---------------------------------------------------------------------
+
+    /**
+     * The player's homes: completes immediately when cached, otherwise loads once from HuskHomes
+     * (concurrent callers share the same load).
+     */
+    public CompletableFuture<List<Home>> homes(Player p) {
+        if (p == null) return CompletableFuture.completedFuture(List.of());
+
+        final UUID uuid = p.getUniqueId();
+        final long now = System.currentTimeMillis();
+
+        Entry e = entries.get(uuid);
+        if (e != null && isUsable(e, now)) return e.future;
+
+        final HuskHomesAPI api;
+        final OnlineUser user;
+        try {
+            api = HuskHomesAPI.getInstance();
+            user = api.adaptUser(p);
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+
+        final CompletableFuture<List<Home>> load = new CompletableFuture<>();
+        final Entry fresh = new Entry(load, now);
+
+        Entry current = entries.compute(uuid, (k, old) -> (old != null && isUsable(old, now)) ? old : fresh);
+        if (current != fresh) return current.future;
+
+        api.getUserHomes(user).whenComplete((list, err) -> {
+            if (err != null) {
+                entries.remove(uuid, fresh);
+                load.completeExceptionally(err);
+                if (config.debug()) plugin.getLogger().warning("HomesCache failed to load homes: " + err.getMessage());
+                return;
+            }
+            load.complete(list == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(list)));
+        });
+
+        return load;
+    }
+
+    /**
+     * Home names (trimmed, case-insensitively sorted) if the player's homes are already loaded,
+     * else an empty list and a background load is started.
+     */
+    public List<String> homeNames(Player p) {
+        if (p == null) return List.of();
+
+        CompletableFuture<List<Home>> f = homes(p);
+        if (!f.isDone() || f.isCompletedExceptionally()) return List.of();
+
+        Entry e = entries.get(p.getUniqueId());
+        List<String> names = (e == null || e.future != f) ? null : e.names;
+        if (names == null) {
+            names = namesOf(f.join());
+            if (e != null && e.future == f) e.names = names;
+        }
+        return withPending(p.getUniqueId(), names);
+    }
+
+    /**
+     * Number of homes if already loaded, else -1 (and a background load is started).
+     */
+    public int homeCount(Player p) {
+        if (p == null) return -1;
+
+        CompletableFuture<List<Home>> f = homes(p);
+        if (!f.isDone() || f.isCompletedExceptionally()) return -1;
+
+        Pending pend = pending.get(p.getUniqueId());
+        if (pend == null || pend.isEmpty()) return f.join().size();
+        return withPending(p.getUniqueId(), namesOf(f.join())).size();
+    }
+
+    // ---------------------------------------------------------------------
+    // Optimistic edits
+    // ---------------------------------------------------------------------
+
+    /**
+     * Pending edits for this player, or null if there are none.
+     */
+    public Pending pending(UUID uuid) {
+        if (uuid == null) return null;
+        Pending p = pending.get(uuid);
+        return (p == null || p.isEmpty()) ? null : p;
+    }
+
+    public void expectCreated(UUID uuid, PendingHome home) {
+        if (uuid == null || home == null || home.name() == null) return;
+        Pending p = pending.computeIfAbsent(uuid, k -> new Pending());
+        p.deleted.remove(key(home.name()));
+        p.created.put(key(home.name()), home);
+    }
+
+    public void expectDeleted(UUID uuid, String name) {
+        if (uuid == null || name == null) return;
+        Pending p = pending.computeIfAbsent(uuid, k -> new Pending());
+        p.created.remove(key(name));
+        p.deleted.add(key(name));
+    }
+
+    /**
+     * The write for this home finished (either way): stop overlaying it.
+     */
+    public void settle(UUID uuid, String name) {
+        if (uuid == null || name == null) return;
+        pending.computeIfPresent(uuid, (k, p) -> {
+            p.created.remove(key(name));
+            p.deleted.remove(key(name));
+            return p.isEmpty() ? null : p;
+        });
+    }
+
+    // ---------------------------------------------------------------------
+    // Invalidation
+    // ---------------------------------------------------------------------
+
+    public void invalidate(UUID uuid) {
+        if (uuid != null) entries.remove(uuid);
+    }
+
+    /**
+     * Drop now and again after HuskHomes has persisted the change.
+     */
+    public void invalidateSoon(UUID uuid) {
+        if (uuid == null) return;
+        invalidate(uuid);
+        Sched.laterGlobal(HuskHomesRefresh.REFRESH_DELAY_TICKS, () -> invalidate(uuid));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHomeCreate(HomeCreateEvent e) {
+        invalidateSoon(uuidOf(e.getOwner()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHomeDelete(HomeDeleteEvent e) {
+        invalidateSoon(ownerOf(e.getHome()));
+    }
+
+    // rename, move, description, privacy
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHomeEdit(HomeEditEvent e) {
+        invalidateSoon(ownerOf(e.getHome()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDeleteAllHomes(DeleteAllHomesEvent e) {
+        invalidateSoon(uuidOf(e.getHomeOwner()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        final Player p = e.getPlayer();
+        try { homes(p); } catch (Throwable ignored) {}
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        entries.remove(e.getPlayer().getUniqueId());
+        pending.remove(e.getPlayer().getUniqueId());
+    }
+
+    // ---------------------------------------------------------------------
+    // Helpers
+    // ---------------------------------------------------------------------
+
+    private boolean isUsable(Entry e, long now) {
+        if (e.future.isCompletedExceptionally()) return false;
+        return !e.future.isDone() || (now - e.createdAtMs) < ttlMs;
+    }
+
+    private List<String> withPending(UUID uuid, List<String> names) {
+        Pending p = pending(uuid);
+        if (p == null) return names;
+
+        List<String> out = new ArrayList<>(names.size() + p.created.size());
+        Set<String> seen = new HashSet<>();
+        for (String n : names) {
+            if (p.isDeleted(n)) continue;
+            out.add(n);
+            seen.add(key(n));
+        }
+        for (PendingHome h : p.created()) {
+            if (seen.add(key(h.name()))) out.add(h.name());
+        }
+
+        out.sort(String.CASE_INSENSITIVE_ORDER);
+        return Collections.unmodifiableList(out);
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> namesOf(List<Home> homes) {
+        List<String> names = new ArrayList<>();
+        if (homes != null) {
+            for (Home h : homes) {
+                if (h == null) continue;
+
+                String n;
+                try {
+                    n = h.getName();
+                } catch (Throwable ignored) {
+                    continue;
+                }
+
+                if (n == null) continue;
+                n = n.trim();
+                if (!n.isBlank()) names.add(n);
+            }
+        }
+
+        // stable, nice ordering
+        names.sort(String.CASE_INSENSITIVE_ORDER);
+        return Collections.unmodifiableList(names);
+    }
+
+    private static UUID ownerOf(Home home) {
+        return (home == null) ? null : uuidOf(home.getOwner());
+    }
+
+    private static UUID uuidOf(User user) {
+        return (user == null) ? null : user.getUuid();
+    }
+}
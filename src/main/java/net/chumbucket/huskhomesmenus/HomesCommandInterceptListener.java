@@ -24,6 +24,7 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Intercepts /home and /homes to open GUI and to support typed "/home <name>" teleport.
@@ -37,6 +38,7 @@ public final class HomesCommandInterceptListener implements Listener {
     private final HomesMenu homesMenu;
     private final ToggleManager toggles;
     private final HHMConfig config;
+    private final HomesCache homesCache; // nullable (falls back to a direct HuskHomes lookup)
 
     private static final LegacyComponentSerializer AMP = LegacyComponentSerializer.legacyAmpersand();
 
@@ -47,17 +49,20 @@ public final class HomesCommandInterceptListener implements Listener {
         this(JavaPlugin.getProvidingPlugin(HomesCommandInterceptListener.class),
                 homesMenu,
                 toggles,
-                new HHMConfig(JavaPlugin.getProvidingPlugin(HomesCommandInterceptListener.class)));
+                new HHMConfig(JavaPlugin.getProvidingPlugin(HomesCommandInterceptListener.class)),
+                null);
     }
 
     /**
      * Full constructor if you prefer explicit injection later
      */
-    public HomesCommandInterceptListener(JavaPlugin plugin, HomesMenu homesMenu, ToggleManager toggles, HHMConfig config) {
+    public HomesCommandInterceptListener(JavaPlugin plugin, HomesMenu homesMenu, ToggleManager toggles, HHMConfig config,
+                                         HomesCache homesCache) {
         this.plugin = plugin;
         this.homesMenu = homesMenu;
         this.toggles = toggles;
         this.config = config;
+        this.homesCache = homesCache;
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = false)
@@ -137,7 +142,10 @@ public final class HomesCommandInterceptListener implements Listener {
         }
 
         // Resolve by fetching homes list, then filtering (works across HH versions)
-        api.getUserHomes(user).thenAccept(homes -> {
+        final CompletableFuture<List<Home>> homesFuture =
+                (homesCache != null) ? homesCache.homes(p) : api.getUserHomes(user);
+
+        homesFuture.thenAccept(homes -> {
             Sched.run(p, () -> {
                 if (!p.isOnline()) return;
 
@@ -10,26 +10,17 @@
 
 package net.chumbucket.huskhomesmenus;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import net.william278.huskhomes.api.HuskHomesAPI;
 import net.william278.huskhomes.position.Home;
-import net.william278.huskhomes.user.OnlineUser;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.block.Sign;
-import org.bukkit.block.data.BlockData;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.block.SignChangeEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
@@ -39,8 +30,6 @@ import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.io.File;
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,6 +46,14 @@ public final class HomesMenu implements Listener {
 
     private final JavaPlugin plugin;
     private final HHMConfig config;
+    private final MaxHomesService maxHomesService;
+    private final HomesCache homesCache;
+    private final HomeWriteAdapter homeWrites;
+    private final SignPromptService signPrompts;
+    private final ChunkPrewarmer prewarmer;
+
+    // Frozen layout (+ its slot tables), reused across opens until the layout config changes
+    private volatile Layout cachedLayout;
 
     private final Set<UUID> openMenus = ConcurrentHashMap.newKeySet();
 
@@ -65,32 +62,15 @@ public final class HomesMenu implements Listener {
     private final Map<UUID, Long> lastActionMs = new ConcurrentHashMap<>();
     private final long clickCooldownMs = 250L; // small debounce
 
-    // ---------------------------------------------------------------------
-    // ✅ Sign input sessions (for naming a home)
-    // ---------------------------------------------------------------------
-    private final Map<UUID, SignSession> signSessions = new ConcurrentHashMap<>();
-
-    private static final class SignSession {
-        final int returnPage;
-        final int homeNumber;
-
-        final Location signLoc;
-        final Material originalType;
-        final BlockData originalData;
-
-        SignSession(int returnPage, int homeNumber,
-                    Location signLoc, Material originalType, BlockData originalData) {
-            this.returnPage = returnPage;
-            this.homeNumber = homeNumber;
-            this.signLoc = signLoc;
-            this.originalType = originalType;
-            this.originalData = originalData;
-        }
-    }
-
-    public HomesMenu(JavaPlugin plugin, HHMConfig config) {
+    public HomesMenu(JavaPlugin plugin, HHMConfig config, MaxHomesService maxHomesService, HomesCache homesCache,
+                     SignPromptService signPrompts, ChunkPrewarmer prewarmer) {
         this.plugin = plugin;
         this.config = config;
+        this.maxHomesService = maxHomesService;
+        this.homesCache = homesCache;
+        this.signPrompts = signPrompts;
+        this.prewarmer = prewarmer;
+        this.homeWrites = new HomeWriteAdapter(plugin, config);
     }
 
     public boolean isHomesMenuOpen(Player p) {
@@ -98,48 +78,11 @@ public final class HomesMenu implements Listener {
     }
 
     // ---------------------------------------------------------------------
-    // ✅ NO-ITALICS FIX: force ITALIC=false on name + lore components
+    // ✅ NO-ITALICS: templates are deserialized with ITALIC=false at config load
     // ---------------------------------------------------------------------
-    private Component deitalicize(Component c) {
-        if (c == null) return Component.empty();
-
-        Component out = c.decoration(TextDecoration.ITALIC, false);
-
-        if (!out.children().isEmpty()) {
-            List<Component> kids = new ArrayList<>(out.children().size());
-            for (Component child : out.children()) kids.add(deitalicize(child));
-            out = out.children(kids);
-        }
-
-        return out;
-    }
-
-    private ItemStack buildNoItalics(HHMConfig.MenuItemTemplate tpl, Map<String, String> placeholders) {
+    private ItemStack buildNoItalics(HHMConfig.MenuItemTemplate tpl, TextTemplate.Values placeholders) {
         if (tpl == null) return new ItemStack(Material.AIR);
-
-        ItemStack item = config.buildItem(tpl, placeholders == null ? Map.of() : placeholders);
-        if (item == null || item.getType() == Material.AIR) return item;
-
-        try {
-            var meta = item.getItemMeta();
-            if (meta == null) return item;
-
-            Component name = meta.displayName();
-            if (name == null) name = AMP.deserialize(" ");
-
-            meta.displayName(deitalicize(name));
-
-            List<Component> lore = meta.lore();
-            if (lore != null && !lore.isEmpty()) {
-                List<Component> fixed = new ArrayList<>(lore.size());
-                for (Component line : lore) fixed.add(deitalicize(line));
-                meta.lore(fixed);
-            }
-
-            item.setItemMeta(meta);
-        } catch (Throwable ignored) { }
-
-        return item;
+        return config.buildItem(tpl, placeholders);
     }
 
     // ---------------------------------------------------------------------
@@ -250,7 +193,7 @@ public final class HomesMenu implements Listener {
 
     public static final class HomesHolder implements InventoryHolder {
         private final UUID owner;
-        private final int page;       // 0-based
+        private int page;             // 0-based (changes on in-place page flips)
         private final int maxHomes;   // HuskHomes max
         private final int perPage;    // homes per page
         private final Layout layout;  // frozen layout used to render (for click math)
@@ -260,6 +203,9 @@ public final class HomesMenu implements Listener {
         // slotNumber (1..maxHomes) -> actual HuskHomes home name (e.g., "Base")
         private final Map<Integer, String> slotToActualHomeName = new HashMap<>();
 
+        // What each inventory slot currently shows (null = empty), for diffing re-renders
+        private SlotKey[] renderedSlots;
+
         private HomesHolder(UUID owner, int page, int maxHomes, int perPage,
                             Layout layout,
                             boolean navEnabled,
@@ -290,10 +236,29 @@ public final class HomesMenu implements Listener {
 
         public Map<Integer, String> slotToActualHomeName() { return slotToActualHomeName; }
 
+        void page(int page) { this.page = page; }
+
+        SlotKey[] renderedSlots(int size) {
+            if (renderedSlots == null || renderedSlots.length != size) renderedSlots = new SlotKey[size];
+            return renderedSlots;
+        }
+
+        /** Call after changing a slot outside of renderIntoInventory so the next render rewrites it. */
+        void forgetSlot(int slot) {
+            if (renderedSlots != null && slot >= 0 && slot < renderedSlots.length) renderedSlots[slot] = null;
+        }
+
         @Override
         public Inventory getInventory() { return null; } // not used
     }
 
+    // Template + the placeholder values it rendered with; equal keys render identical items
+    record SlotKey(HHMConfig.MenuItemTemplate template, List<String> resolved) {
+        static SlotKey of(HHMConfig.MenuItemTemplate template, TextTemplate.Values values) {
+            return new SlotKey(template, template.resolvedPlaceholders(values));
+        }
+    }
+
     public static final class DeleteConfirmHolder implements InventoryHolder {
         private final UUID owner;
         private final int returnPage;        // the page to return to in homes menu
@@ -353,6 +318,13 @@ public final class HomesMenu implements Listener {
         // ✅ Only center THE BEDS/ACTIONS per line (NOT the whole grid width)
         final boolean centerBeds;
 
+        // Computed once per layout
+        final int linesThatFit;
+        final int perPage;
+
+        // itemsOnPage -> slot tables (filled lazily; entries are immutable so racy publication is fine)
+        private final PageSlots[] pageSlots;
+
         Layout(int rows, int columns, int teleportStartSlot, int actionStartSlot,
                int actionOffsetRows, int lineStrideRows, boolean useFiller, boolean centerBeds) {
             this.rows = rows;
@@ -363,6 +335,119 @@ public final class HomesMenu implements Listener {
             this.lineStrideRows = lineStrideRows;
             this.useFiller = useFiller;
             this.centerBeds = centerBeds;
+
+            this.linesThatFit = Math.max(1, computeLinesThatFit());
+            this.perPage = Math.max(1, linesThatFit * columns);
+            this.pageSlots = new PageSlots[perPage + 1];
+        }
+
+        boolean sameAs(int rows, int columns, int teleportStartSlot, int actionStartSlot,
+                       int actionOffsetRows, int lineStrideRows, boolean useFiller, boolean centerBeds) {
+            return this.rows == rows && this.columns == columns
+                    && this.teleportStartSlot == teleportStartSlot && this.actionStartSlot == actionStartSlot
+                    && this.actionOffsetRows == actionOffsetRows && this.lineStrideRows == lineStrideRows
+                    && this.useFiller == useFiller && this.centerBeds == centerBeds;
+        }
+
+        /**
+         * Forward (index -> slot) and reverse (slot -> index/kind) tables for a page with this many homes.
+         */
+        PageSlots pageSlots(int itemsOnPage) {
+            int n = Math.max(0, Math.min(itemsOnPage, perPage));
+            PageSlots ps = pageSlots[n];
+            if (ps == null) {
+                ps = new PageSlots(this, n);
+                pageSlots[n] = ps;
+            }
+            return ps;
+        }
+
+        // ✅ how many items actually exist on this line for THIS page (for centering)
+        private int itemsOnLine(int line, int itemsOnPage) {
+            return Math.min(columns, Math.max(0, itemsOnPage - (line * columns)));
+        }
+
+        // Center ONLY the actual beds/actions per line (no grid-width centering)
+        private int perLineCenterOffset(int itemsThisLine) {
+            if (!centerBeds) return 0;
+
+            int cols = Math.max(1, columns);
+            int items = Math.max(0, Math.min(itemsThisLine, cols));
+            int diff = cols - items;
+            if (diff <= 0) return 0;
+
+            // Use ceil(diff/2) so a single missing item shifts by 1 (looks centered in a 9-wide GUI)
+            return (diff + 1) / 2;
+        }
+
+        private int slotForTeleport(int line, int col, int itemsThisLine) {
+            int baseRow = (teleportStartSlot / 9) + (line * lineStrideRows);
+            int baseCol = (teleportStartSlot % 9);
+
+            int off = perLineCenterOffset(itemsThisLine);
+            return baseRow * 9 + (baseCol + off + col);
+        }
+
+        private int slotForAction(int line, int col, int itemsThisLine) {
+            int teleportBaseRow = (teleportStartSlot / 9) + (line * lineStrideRows);
+            int actionRow = teleportBaseRow + actionOffsetRows;
+
+            int baseCol = (actionStartSlot % 9);
+
+            int off = perLineCenterOffset(itemsThisLine);
+            return actionRow * 9 + (baseCol + off + col);
+        }
+
+        private int computeLinesThatFit() {
+            final int size = rows * 9;
+
+            // Columns that overflow the row can never fit, whatever the line
+            if ((teleportStartSlot % 9) + (columns - 1) > 8) return 0;
+            if ((actionStartSlot % 9) + (columns - 1) > 8) return 0;
+
+            int lines = 0;
+            for (int line = 0; line < rows; line++) {
+                int bedSlot = slotForTeleport(line, 0, columns);
+                int actionSlot = slotForAction(line, 0, columns);
+
+                if (bedSlot < 0 || bedSlot >= size || actionSlot < 0 || actionSlot >= size) break;
+                lines++;
+            }
+            return lines;
+        }
+    }
+
+    // Precomputed slots for one (layout, itemsOnPage) pair
+    static final class PageSlots {
+        final int[] teleportSlots; // index in page -> slot
+        final int[] actionSlots;   // index in page -> slot
+        private final HomeSlotRef[] bySlot; // slot -> (index, kind), null if not a home slot
+
+        private PageSlots(Layout l, int itemsOnPage) {
+            final int size = l.rows * 9;
+
+            this.teleportSlots = new int[itemsOnPage];
+            this.actionSlots = new int[itemsOnPage];
+            this.bySlot = new HomeSlotRef[size];
+
+            for (int idx = 0; idx < itemsOnPage; idx++) {
+                int line = idx / l.columns;
+                int col = idx % l.columns;
+                int itemsThisLine = l.itemsOnLine(line, itemsOnPage);
+
+                int bed = l.slotForTeleport(line, col, itemsThisLine);
+                int action = l.slotForAction(line, col, itemsThisLine);
+                teleportSlots[idx] = bed;
+                actionSlots[idx] = action;
+
+                // first match wins (same order the old per-click scan used)
+                if (bed >= 0 && bed < size && bySlot[bed] == null) bySlot[bed] = new HomeSlotRef(idx, HomeSlotKind.TELEPORT);
+                if (action >= 0 && action < size && bySlot[action] == null) bySlot[action] = new HomeSlotRef(idx, HomeSlotKind.ACTION);
+            }
+        }
+
+        HomeSlotRef resolve(int slot) {
+            return (slot >= 0 && slot < bySlot.length) ? bySlot[slot] : null;
         }
     }
 
@@ -379,18 +464,16 @@ public final class HomesMenu implements Listener {
         if (!config.homesMenuEnabled()) return;
 
         final int maxHomes = getMaxHomes(player);
+        final CompletableFuture<List<Home>> homes = homesCache.homes(player);
 
-        final HuskHomesAPI api;
-        try {
-            api = HuskHomesAPI.getInstance();
-        } catch (Throwable t) {
-            player.sendMessage(AMP.deserialize(config.prefix()).append(AMP.deserialize("&cHuskHomes API not available.")));
+        // Already cached: open in this tick (callers are on the player's thread)
+        if (homes.isDone() && !homes.isCompletedExceptionally()) {
+            List<Home> homeList = homes.join();
+            buildAndOpen(player, Math.max(0, page), maxHomes, homeList == null ? List.of() : homeList);
             return;
         }
 
-        final OnlineUser user = api.adaptUser(player);
-
-        api.getUserHomes(user).thenAccept(homeList -> {
+        homes.thenAccept(homeList -> {
             // hop to correct thread (Folia-safe)
             Sched.run(player, () -> {
                 if (!player.isOnline()) return;
@@ -407,22 +490,6 @@ public final class HomesMenu implements Listener {
         });
     }
 
-    // ---------------------------------------------------------------------
-    // ✅ Center ONLY the actual beds/actions per line (no grid-width centering)
-    // ---------------------------------------------------------------------
-
-    private int perLineCenterOffset(Layout l, int itemsThisLine) {
-        if (l == null || !l.centerBeds) return 0;
-
-        int cols = Math.max(1, l.columns);
-        int items = Math.max(0, Math.min(itemsThisLine, cols));
-        int diff = cols - items;
-        if (diff <= 0) return 0;
-
-        // Use ceil(diff/2) so a single missing item shifts by 1 (looks centered in a 9-wide GUI)
-        return (diff + 1) / 2;
-    }
-
     // ---------------------------------------------------------------------
     // Build / Render homes menu
     // ---------------------------------------------------------------------
@@ -443,10 +510,13 @@ public final class HomesMenu implements Listener {
 
         final boolean useFiller = config.homesUseFiller();
 
-        Layout layout = new Layout(rows, cols, teleportStart, actionStart, actionOffsetRows, lineStrideRows, useFiller, centerBeds);
+        Layout layout = cachedLayout;
+        if (layout == null || !layout.sameAs(rows, cols, teleportStart, actionStart, actionOffsetRows, lineStrideRows, useFiller, centerBeds)) {
+            layout = new Layout(rows, cols, teleportStart, actionStart, actionOffsetRows, lineStrideRows, useFiller, centerBeds);
+            cachedLayout = layout;
+        }
 
-        int lines = Math.max(1, computeLinesThatFit(layout));
-        int perPage = Math.max(1, lines * cols);
+        int perPage = layout.perPage;
 
         int pages = Math.max(1, (int) Math.ceil(maxHomes / (double) perPage));
         int page = Math.min(Math.max(0, requestedPage), pages - 1);
@@ -475,31 +545,57 @@ public final class HomesMenu implements Listener {
 
     /**
      * Re-renders the homes menu into an existing inventory (no flicker).
+     * Only slots whose template/placeholder values changed since the last render are rebuilt and set.
      */
     private void renderIntoInventory(Inventory inv, HomesHolder holder, int page, int pages, int maxHomes, List<Home> homes) {
         Layout layout = holder.layout();
         boolean useFiller = layout.useFiller;
 
-        inv.clear();
+        final int size = inv.getSize();
+        final SlotKey[] previous = holder.renderedSlots(size);
+        final SlotKey[] desired = new SlotKey[size];
+        final ItemStack[] changed = new ItemStack[size];
 
         if (useFiller) {
-            ItemStack filler = buildNoItalics(config.homesFillerItem(), Map.of());
-            for (int i = 0; i < inv.getSize(); i++) inv.setItem(i, filler);
+            HHMConfig.MenuItemTemplate fillerTpl = config.homesFillerItem();
+            SlotKey fillerKey = SlotKey.of(fillerTpl, null);
+            ItemStack filler = null;
+            for (int i = 0; i < size; i++) {
+                desired[i] = fillerKey;
+                if (!fillerKey.equals(previous[i])) {
+                    if (filler == null) filler = config.cachedItem(fillerTpl);
+                    changed[i] = filler;
+                }
+            }
         }
 
-        // name -> Home object
+        // Optimistic creates/deletes that haven't been written yet
+        final HomesCache.Pending pending = homesCache.pending(holder.owner());
+
+        // name -> Home object (+ the names shown, pending edits applied)
         Map<String, Home> homeByName = new HashMap<>();
+        List<String> names = new ArrayList<>();
         if (homes != null) {
             for (Home h : homes) {
                 if (h == null) continue;
                 try {
                     String n = h.getName();
-                    if (n != null && !n.isBlank()) homeByName.put(n.trim(), h);
+                    if (n == null || n.isBlank()) continue;
+                    n = n.trim();
+                    if (pending != null && pending.isDeleted(n)) continue;
+                    homeByName.put(n, h);
+                    names.add(n);
                 } catch (Throwable ignored) {}
             }
         }
+        if (pending != null) {
+            for (HomesCache.PendingHome ph : pending.created()) {
+                String n = ph.name().trim();
+                if (!homeByName.containsKey(n) && !names.contains(n)) names.add(n);
+            }
+        }
 
-        Map<Integer, String> slotMap = buildSlotToActualHomeNameMap(homes, maxHomes);
+        Map<Integer, String> slotMap = buildSlotToActualHomeNameMap(names, maxHomes);
         holder.slotToActualHomeName().clear();
         holder.slotToActualHomeName().putAll(slotMap);
 
@@ -513,30 +609,30 @@ public final class HomesMenu implements Listener {
 
         final int countInPage = Math.max(0, endHome - startHome + 1);
 
+        // One value table reused for every slot (cleared per home)
+        final TextTemplate.Values ph = new TextTemplate.Values();
+        final PageSlots slots = layout.pageSlots(countInPage);
+
         for (int homeNumber = startHome; homeNumber <= endHome; homeNumber++) {
             int idx = homeNumber - startHome;
-            int line = idx / layout.columns;
-            int col = idx % layout.columns;
 
-            // ✅ how many items actually exist on this line for THIS page (for centering)
-            int itemsThisLine = Math.min(layout.columns, Math.max(0, countInPage - (line * layout.columns)));
-
-            int bedSlot = slotForTeleport(layout, line, col, itemsThisLine);
-            int actionSlot = slotForAction(layout, line, col, itemsThisLine);
+            int bedSlot = slots.teleportSlots[idx];
+            int actionSlot = slots.actionSlots[idx];
             if (!slotInInventory(bedSlot, inv.getSize()) || !slotInInventory(actionSlot, inv.getSize())) continue;
 
             String actualName = slotMap.get(homeNumber);
             boolean exists = (actualName != null && !actualName.isBlank());
 
-            Map<String, String> ph = baseHomePlaceholders(homeNumber, page, pages, maxHomes);
-            ph.put("%home_name%", exists ? actualName : "");
+            baseHomePlaceholders(ph.clear(), homeNumber, page, pages, maxHomes);
+            ph.set(TextTemplate.Key.HOME_NAME, exists ? actualName : "");
 
             // ✅ NEW placeholders (dimension/server/world/coords)
             if (exists) {
                 Home h = homeByName.get(actualName);
+                HomesCache.PendingHome created = (h == null && pending != null) ? pending.created(actualName) : null;
 
-                String worldName = resolveHomeWorldName(h);
-                String serverId = resolveHomeServerId(h);
+                String worldName = (created != null) ? created.world() : resolveHomeWorldName(h);
+                String serverId = (created != null) ? created.server() : resolveHomeServerId(h);
 
                 String shownServer = "";
                 if (config.proxyEnabled()) {
@@ -546,36 +642,36 @@ public final class HomesMenu implements Listener {
                 String dimension = resolveHomeDimensionBestEffort(worldName, shownServer);
 
                 // coords (best-effort across HuskHomes versions)
-                String x = resolveHomeCoordInt(h, "getX");
-                String y = resolveHomeCoordInt(h, "getY");
-                String z = resolveHomeCoordInt(h, "getZ");
+                String x = resolveHomeCoordInt((created != null) ? created.x() : PositionAccessor.x(h));
+                String y = resolveHomeCoordInt((created != null) ? created.y() : PositionAccessor.y(h));
+                String z = resolveHomeCoordInt((created != null) ? created.z() : PositionAccessor.z(h));
                 String coords = (!x.isBlank() && !y.isBlank() && !z.isBlank()) ? (x + ", " + y + ", " + z) : "";
 
-                ph.put("%home_world%", worldName == null ? "" : worldName);
-                ph.put("%home_server%", shownServer == null ? "" : shownServer);
-                ph.put("%home_dimension%", dimension == null ? "" : dimension);
+                ph.set(TextTemplate.Key.HOME_WORLD, worldName);
+                ph.set(TextTemplate.Key.HOME_SERVER, shownServer);
+                ph.set(TextTemplate.Key.HOME_DIMENSION, dimension);
 
-                ph.put("%home_x%", x);
-                ph.put("%home_y%", y);
-                ph.put("%home_z%", z);
-                ph.put("%home_coords%", coords);
+                ph.set(TextTemplate.Key.HOME_X, x);
+                ph.set(TextTemplate.Key.HOME_Y, y);
+                ph.set(TextTemplate.Key.HOME_Z, z);
+                ph.set(TextTemplate.Key.HOME_COORDS, coords);
             } else {
-                ph.put("%home_world%", "");
-                ph.put("%home_server%", "");
-                ph.put("%home_dimension%", "");
-
-                ph.put("%home_x%", "");
-                ph.put("%home_y%", "");
-                ph.put("%home_z%", "");
-                ph.put("%home_coords%", "");
+                ph.set(TextTemplate.Key.HOME_WORLD, "");
+                ph.set(TextTemplate.Key.HOME_SERVER, "");
+                ph.set(TextTemplate.Key.HOME_DIMENSION, "");
+
+                ph.set(TextTemplate.Key.HOME_X, "");
+                ph.set(TextTemplate.Key.HOME_Y, "");
+                ph.set(TextTemplate.Key.HOME_Z, "");
+                ph.set(TextTemplate.Key.HOME_COORDS, "");
             }
 
             if (exists) {
-                inv.setItem(bedSlot, buildNoItalics(savedBedTpl, ph));
-                inv.setItem(actionSlot, buildNoItalics(deleteActionTpl, ph));
+                place(desired, previous, changed, bedSlot, savedBedTpl, ph, false);
+                place(desired, previous, changed, actionSlot, deleteActionTpl, ph, false);
             } else {
-                inv.setItem(bedSlot, buildNoItalics(emptyBedTpl, ph));
-                inv.setItem(actionSlot, buildNoItalics(emptyActionTpl, ph));
+                place(desired, previous, changed, bedSlot, emptyBedTpl, ph, true);
+                place(desired, previous, changed, actionSlot, emptyActionTpl, ph, true);
             }
         }
 
@@ -583,24 +679,52 @@ public final class HomesMenu implements Listener {
             int prevPage = Math.max(1, page);
             int nextPage = Math.min(pages, page + 2);
 
-            Map<String, String> navPh = new HashMap<>();
-            navPh.put("%page%", String.valueOf(page + 1));
-            navPh.put("%pages%", String.valueOf(pages));
-            navPh.put("%max_homes%", String.valueOf(maxHomes));
-            navPh.put("%prev_page%", String.valueOf(prevPage));
-            navPh.put("%next_page%", String.valueOf(nextPage));
-            navPh.put("%player%", "");
+            TextTemplate.Values navPh = new TextTemplate.Values()
+                    .set(TextTemplate.Key.PAGE, String.valueOf(page + 1))
+                    .set(TextTemplate.Key.PAGES, String.valueOf(pages))
+                    .set(TextTemplate.Key.MAX_HOMES, String.valueOf(maxHomes))
+                    .set(TextTemplate.Key.PREV_PAGE, String.valueOf(prevPage))
+                    .set(TextTemplate.Key.NEXT_PAGE, String.valueOf(nextPage))
+                    .set(TextTemplate.Key.PLAYER, "");
 
             int prevSlot = clamp(holder.navPrevSlot(), 0, inv.getSize() - 1);
             int pageSlot = clamp(holder.navPageSlot(), 0, inv.getSize() - 1);
             int nextSlot = clamp(holder.navNextSlot(), 0, inv.getSize() - 1);
             int closeSlot = clamp(holder.navCloseSlot(), 0, inv.getSize() - 1);
 
-            if (page > 0) inv.setItem(prevSlot, buildNoItalics(config.homesNavPrevItem(), navPh));
-            inv.setItem(pageSlot, buildNoItalics(config.homesNavPageItem(), navPh));
-            if (page < pages - 1) inv.setItem(nextSlot, buildNoItalics(config.homesNavNextItem(), navPh));
-            inv.setItem(closeSlot, buildNoItalics(config.homesNavCloseItem(), navPh));
+            if (page > 0) place(desired, previous, changed, prevSlot, config.homesNavPrevItem(), navPh, true);
+            place(desired, previous, changed, pageSlot, config.homesNavPageItem(), navPh, true);
+            if (page < pages - 1) place(desired, previous, changed, nextSlot, config.homesNavNextItem(), navPh, true);
+            place(desired, previous, changed, closeSlot, config.homesNavCloseItem(), navPh, true);
+        }
+
+        // Apply the diff
+        for (int i = 0; i < size; i++) {
+            if (desired[i] == null) {
+                if (previous[i] != null) inv.setItem(i, null);
+            } else if (changed[i] != null) {
+                inv.setItem(i, changed[i]);
+            }
+            previous[i] = desired[i];
+        }
+    }
+
+    /**
+     * Records what a slot should show and builds the item only if it differs from what's rendered.
+     * {@code cached} = use the shared prototype cache (items with few distinct placeholder values).
+     */
+    private void place(SlotKey[] desired, SlotKey[] previous, ItemStack[] changed, int slot,
+                       HHMConfig.MenuItemTemplate tpl, TextTemplate.Values ph, boolean cached) {
+        if (tpl == null) return;
+
+        SlotKey key = SlotKey.of(tpl, ph);
+        desired[slot] = key;
+
+        if (key.equals(previous[slot])) {
+            changed[slot] = null;
+            return;
         }
+        changed[slot] = cached ? config.cachedItem(tpl, ph) : buildNoItalics(tpl, ph);
     }
 
     // ---------------------------------------------------------------------
@@ -625,34 +749,16 @@ public final class HomesMenu implements Listener {
     }
 
     private String[] readCreateHomeSignLines(Player p, int returnPage, int homeNumber) {
-        List<String> cfg = plugin.getConfig().getStringList("menus.homes.create_home_sign.lines");
+        List<TextTemplate> lines = config.homesCreateSignLines();
 
-        String l1 = cfg.size() > 0 ? cfg.get(0) : "&7^^^^^^^^^^^^^^^";
-        String l2 = cfg.size() > 1 ? cfg.get(1) : "&bName your home";
-        String l3 = cfg.size() > 2 ? cfg.get(2) : "";
-        String l4 = cfg.size() > 3 ? cfg.get(3) : "";
+        TextTemplate.Values ph = new TextTemplate.Values()
+                .set(TextTemplate.Key.HOME, String.valueOf(homeNumber))
+                .set(TextTemplate.Key.PLAYER, (p == null ? "" : p.getName()))
+                .set(TextTemplate.Key.PAGE, String.valueOf(Math.max(1, returnPage + 1)));
 
-        Map<String, String> ph = new HashMap<>();
-        ph.put("%home%", String.valueOf(homeNumber));
-        ph.put("%player%", (p == null ? "" : p.getName()));
-        ph.put("%page%", String.valueOf(Math.max(1, returnPage + 1)));
-
-        l1 = applyPlaceholders(l1, ph);
-        l2 = applyPlaceholders(l2, ph);
-        l3 = applyPlaceholders(l3, ph);
-        l4 = applyPlaceholders(l4, ph);
-
-        return new String[]{l1, l2, l3, l4};
-    }
-
-    private String applyPlaceholders(String s, Map<String, String> ph) {
-        if (s == null) return "";
-        String out = s;
-        if (ph != null) {
-            for (var e : ph.entrySet()) {
-                if (e.getKey() == null) continue;
-                out = out.replace(e.getKey(), e.getValue() == null ? "" : e.getValue());
-            }
+        String[] out = new String[4];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = i < lines.size() ? lines.get(i).render(ph) : "";
         }
         return out;
     }
@@ -666,9 +772,8 @@ public final class HomesMenu implements Listener {
 
         // If disabled in config, fallback to numeric name
         if (!createHomeSignEnabled()) {
-            doSetHomeApiFirst(p, String.valueOf(homeNumber)).whenComplete((ok, err) ->
-                    Sched.run(p, () -> open(p, Math.max(0, returnPage)))
-            );
+            createHomeOptimistic(p, String.valueOf(homeNumber));
+            open(p, Math.max(0, returnPage));
             return;
         }
 
@@ -676,224 +781,19 @@ public final class HomesMenu implements Listener {
         Sched.run(p, () -> {
             if (!p.isOnline()) return;
 
-            Location base = p.getLocation().clone();
-            Location spot = findSignSpot(base);
-
-            if (spot == null) {
-                p.sendMessage(AMP.deserialize(config.prefix()).append(AMP.deserialize("&cCouldn't open name prompt here.")));
-                return;
-            }
-
             final Material signMat = readCreateHomeSignMaterial();
             final String[] lines = readCreateHomeSignLines(p, returnPage, homeNumber);
+            final int page = Math.max(0, returnPage);
 
-            // Region-safe: place + edit sign on that location's region thread
-            Sched.runAt(spot, () -> {
-                Block b = spot.getBlock();
-                Material oldType = b.getType();
-                BlockData oldData = b.getBlockData();
-
-                try {
-                    b.setType(signMat, false);
-                } catch (Throwable t) {
-                    Sched.run(p, () ->
-                            p.sendMessage(AMP.deserialize(config.prefix()).append(AMP.deserialize("&cCouldn't place sign.")))
-                    );
-                    return;
-                }
+            boolean opened = signPrompts.prompt(p, signMat, lines,
+                    (player, edited) -> onHomeNameEntered(player, page, homeNumber, edited[0]));
 
-                try {
-                    if (b.getState() instanceof Sign sign) {
-                        setSignLinesBestEffort(sign, lines[0], lines[1], lines[2], lines[3]);
-                        try { sign.update(true, false); } catch (Throwable ignored) {}
-                    }
-                } catch (Throwable ignored) {}
-
-                // Store session after sign exists
-                SignSession session = new SignSession(
-                        Math.max(0, returnPage),
-                        homeNumber,
-                        spot.clone(),
-                        oldType,
-                        oldData
-                );
-                signSessions.put(p.getUniqueId(), session);
-
-                // Timeout cleanup (if player ESC's the sign editor, no event fires)
-                // Use region thread for restore safety
-                Sched.laterAt(session.signLoc, 20L * 60L, () -> cleanupSignSession(p.getUniqueId(), true)); // 60s
-
-                // Open editor after tiny delay so client has sign text
-                Sched.later(p, 2L, () -> {
-                    if (!p.isOnline()) return;
-
-                    // Push preview to THIS player (prevents blank editor race)
-                    sendSignPreviewToPlayerBestEffort(p, session.signLoc, lines);
-
-                    // Grab sign state region-safe, then open editor on player thread
-                    Sched.runAt(session.signLoc, () -> {
-                        Block sb = session.signLoc.getBlock();
-                        if (!(sb.getState() instanceof Sign sign)) {
-                            cleanupSignSession(p.getUniqueId(), true);
-                            return;
-                        }
-                        Sched.run(p, () -> openSignEditorBestEffort(p, sign));
-                    });
-                });
-            });
-        });
-    }
-
-    private Location findSignSpot(Location playerLoc) {
-        if (playerLoc == null || playerLoc.getWorld() == null) return null;
-
-        // try y+2..y+5 above player, same x/z
-        for (int dy = 2; dy <= 5; dy++) {
-            Location loc = playerLoc.clone().add(0, dy, 0);
-            Block b = loc.getBlock();
-            if (b.getType().isAir()) return b.getLocation();
-        }
-
-        // try a small ring around (in case above is blocked)
-        for (int dy = 2; dy <= 5; dy++) {
-            for (int dx = -2; dx <= 2; dx++) {
-                for (int dz = -2; dz <= 2; dz++) {
-                    Location loc = playerLoc.clone().add(dx, dy, dz);
-                    Block b = loc.getBlock();
-                    if (b.getType().isAir()) return b.getLocation();
-                }
+            if (!opened) {
+                p.sendMessage(AMP.deserialize(config.prefix()).append(AMP.deserialize("&cCouldn't open name prompt here.")));
             }
-        }
-
-        return null;
-    }
-
-    private void cleanupSignSession(UUID playerId, boolean restoreBlock) {
-        if (playerId == null) return;
-        SignSession session = signSessions.remove(playerId);
-        if (session == null) return;
-
-        if (!restoreBlock) return;
-
-        Location loc = session.signLoc;
-        if (loc == null || loc.getWorld() == null) return;
-
-        // Region-safe restore
-        Sched.runAt(loc, () -> {
-            try {
-                Block b = loc.getBlock();
-                b.setType(session.originalType, false);
-                try {
-                    if (session.originalData != null) {
-                        b.setBlockData(session.originalData, false);
-                    }
-                } catch (Throwable ignored) {}
-            } catch (Throwable ignored) {}
         });
     }
 
-    // ✅ Writes to FRONT (mirrors BACK when possible) without unchecked Enum warnings
-    private void setSignLinesBestEffort(Sign sign, String l1, String l2, String l3, String l4) {
-        if (sign == null) return;
-
-        String[] raw = new String[] {
-                l1 == null ? "" : l1,
-                l2 == null ? "" : l2,
-                l3 == null ? "" : l3,
-                l4 == null ? "" : l4
-        };
-
-        // --- Modern (1.20+): set FRONT (and BACK) sign sides explicitly ---
-        try {
-            Class<?> sideClass = Class.forName("org.bukkit.block.sign.Side");
-
-            Object front = null;
-            Object back = null;
-
-            Object[] constants = sideClass.getEnumConstants();
-            if (constants != null) {
-                for (Object c : constants) {
-                    if (c instanceof Enum<?> en) {
-                        String n = en.name();
-                        if ("FRONT".equals(n)) front = c;
-                        else if ("BACK".equals(n)) back = c;
-                    }
-                }
-            }
-            if (front == null) throw new IllegalStateException("Side.FRONT not found");
-
-            Method getSide = sign.getClass().getMethod("getSide", sideClass);
-            Object frontSide = getSide.invoke(sign, front);
-            Object backSide = (back != null) ? getSide.invoke(sign, back) : null;
-
-            Method lineMethod = frontSide.getClass().getMethod("line", int.class, Component.class);
-
-            for (int i = 0; i < 4; i++) {
-                String plain = stripLegacyColor(raw[i]);
-                Component c = AMP.deserialize(plain).decoration(TextDecoration.ITALIC, false);
-
-                lineMethod.invoke(frontSide, i, c);
-                if (backSide != null) {
-                    try { lineMethod.invoke(backSide, i, c); } catch (Throwable ignored) {}
-                }
-            }
-            return;
-
-        } catch (Throwable ignored) {
-            // fall back below
-        }
-
-        // --- Older Bukkit: setLine(int, String) ---
-        try {
-            Method setLine = sign.getClass().getMethod("setLine", int.class, String.class);
-            setLine.invoke(sign, 0, stripLegacyColor(raw[0]));
-            setLine.invoke(sign, 1, stripLegacyColor(raw[1]));
-            setLine.invoke(sign, 2, stripLegacyColor(raw[2]));
-            setLine.invoke(sign, 3, stripLegacyColor(raw[3]));
-        } catch (Throwable ignored) {}
-    }
-
-    // ✅ Sends sign text directly to the player (best-effort) to prevent blank editor
-    private void sendSignPreviewToPlayerBestEffort(Player p, Location signLoc, String[] lines) {
-        if (p == null || signLoc == null || lines == null || lines.length < 4) return;
-
-        try {
-            Method m = p.getClass().getMethod("sendSignChange", Location.class, String[].class);
-            String[] plain = new String[] {
-                    stripLegacyColor(lines[0]),
-                    stripLegacyColor(lines[1]),
-                    stripLegacyColor(lines[2]),
-                    stripLegacyColor(lines[3])
-            };
-            m.invoke(p, signLoc, (Object) plain);
-            return;
-        } catch (Throwable ignored) {}
-
-        try {
-            Method m = p.getClass().getMethod("sendSignChange", Location.class, Component[].class);
-            Component[] comps = new Component[] {
-                    AMP.deserialize(stripLegacyColor(lines[0])).decoration(TextDecoration.ITALIC, false),
-                    AMP.deserialize(stripLegacyColor(lines[1])).decoration(TextDecoration.ITALIC, false),
-                    AMP.deserialize(stripLegacyColor(lines[2])).decoration(TextDecoration.ITALIC, false),
-                    AMP.deserialize(stripLegacyColor(lines[3])).decoration(TextDecoration.ITALIC, false),
-            };
-            m.invoke(p, signLoc, (Object) comps);
-        } catch (Throwable ignored) {}
-    }
-
-    private void openSignEditorBestEffort(Player p, Sign sign) {
-        try {
-            Method m = p.getClass().getMethod("openSign", Sign.class);
-            m.invoke(p, sign);
-            return;
-        } catch (Throwable ignored) {}
-
-        try {
-            Method m = p.getClass().getMethod("openSign", Sign.class, boolean.class);
-            m.invoke(p, sign, true);
-        } catch (Throwable ignored) {}
-    }
-
     private String stripLegacyColor(String s) {
         if (s == null) return "";
         return s.replaceAll("(?i)§[0-9A-FK-OR]", "").replaceAll("(?i)&[0-9A-FK-OR]", "");
@@ -911,33 +811,14 @@ public final class HomesMenu implements Listener {
         return s;
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
-    public void onSignChange(SignChangeEvent e) {
-        Player p = e.getPlayer();
-        if (p == null) return;
-
-        SignSession session = signSessions.get(p.getUniqueId());
-        if (session == null) return;
-
-        // Make sure it's OUR temporary sign
-        try {
-            Location loc = e.getBlock().getLocation();
-            if (loc.getWorld() == null || session.signLoc.getWorld() == null) return;
-            if (!loc.getWorld().equals(session.signLoc.getWorld())) return;
-            if (loc.getBlockX() != session.signLoc.getBlockX()
-                    || loc.getBlockY() != session.signLoc.getBlockY()
-                    || loc.getBlockZ() != session.signLoc.getBlockZ()) return;
-        } catch (Throwable t) {
-            return;
-        }
-
-        String rawLine0 = safeSignLine(e, 0);
-        String typed = sanitizeHomeName(rawLine0, session.homeNumber);
+    // Sign submitted (player's thread)
+    private void onHomeNameEntered(Player p, int returnPage, int homeNumber, String rawLine0) {
+        String typed = sanitizeHomeName(rawLine0, homeNumber);
 
         final String homeName;
-        if (typed == null || typed.isBlank() || typed.equals(String.valueOf(session.homeNumber))) {
+        if (typed == null || typed.isBlank() || typed.equals(String.valueOf(homeNumber))) {
             if (rawLine0 == null || rawLine0.trim().isEmpty() || stripLegacyColor(rawLine0).trim().isEmpty()) {
-                homeName = String.valueOf(session.homeNumber);
+                homeName = String.valueOf(homeNumber);
             } else {
                 homeName = typed;
             }
@@ -945,37 +826,13 @@ public final class HomesMenu implements Listener {
             homeName = typed;
         }
 
-        int returnPage = session.returnPage;
-
-        cleanupSignSession(p.getUniqueId(), true);
-
-        doSetHomeApiFirst(p, homeName).whenComplete((ok, err) ->
-                Sched.run(p, () -> open(p, returnPage))
-        );
-    }
-
-    private String safeSignLine(SignChangeEvent e, int idx) {
-        try {
-            Method m = e.getClass().getMethod("line", int.class);
-            Object out = m.invoke(e, idx);
-            if (out instanceof Component c) {
-                return AMP.serialize(c);
-            }
-        } catch (Throwable ignored) {}
-
-        try {
-            Method m2 = e.getClass().getMethod("getLine", int.class);
-            Object out2 = m2.invoke(e, idx);
-            if (out2 instanceof String s) return s;
-        } catch (Throwable ignored) {}
-
-        return "";
+        createHomeOptimistic(p, homeName);
+        open(p, returnPage);
     }
 
     @EventHandler
     public void onQuit(PlayerQuitEvent e) {
         if (e == null || e.getPlayer() == null) return;
-        cleanupSignSession(e.getPlayer().getUniqueId(), true);
         endAction(e.getPlayer().getUniqueId());
     }
 
@@ -984,30 +841,11 @@ public final class HomesMenu implements Listener {
     // ---------------------------------------------------------------------
 
     private String resolveHomeWorldName(Home h) {
-        if (h == null) return "";
-
-        Object worldObj = callNoArg(h, "getWorld");
-        if (worldObj == null) worldObj = callNoArg(h, "world");
-        if (worldObj == null) return "";
-
-        Object name = callNoArg(worldObj, "getName");
-        if (name == null) name = callNoArg(worldObj, "name");
-        if (name instanceof String s) return s;
-        return "";
+        return PositionAccessor.world(h);
     }
 
     private String resolveHomeServerId(Home h) {
-        if (h == null) return "";
-
-        Object server = callNoArg(h, "getServer");
-        if (server == null) server = callNoArg(h, "server");
-        if (server == null) server = callNoArg(h, "getServerName");
-        if (server == null) server = callNoArg(h, "getServerId");
-        if (server == null) server = callNoArg(h, "getServerID");
-        if (server == null) server = callNoArg(h, "getServerID");
-
-        if (server instanceof String s) return s;
-        return "";
+        return PositionAccessor.server(h);
     }
 
     private String resolveHomeDimensionBestEffort(String worldName, String homeServerShown) {
@@ -1040,21 +878,8 @@ public final class HomesMenu implements Listener {
         return "";
     }
 
-    private String resolveHomeCoordInt(Home h, String getterName) {
-        if (h == null || getterName == null) return "";
-
-        Object v = callNoArg(h, getterName);
-
-        if (v == null) {
-            Object pos = callNoArg(h, "getPosition");
-            if (pos == null) pos = callNoArg(h, "position");
-            if (pos != null) v = callNoArg(pos, getterName);
-        }
-
-        if (v instanceof Number n) return String.valueOf(n.intValue());
-        if (v instanceof String s) return s.trim();
-
-        return "";
+    private String resolveHomeCoordInt(double v) {
+        return Double.isNaN(v) ? "" : String.valueOf((int) v);
     }
 
     private boolean equalsIgnoreCaseTrim(String a, String b) {
@@ -1062,17 +887,6 @@ public final class HomesMenu implements Listener {
         return a.trim().equalsIgnoreCase(b.trim());
     }
 
-    private Object callNoArg(Object target, String methodName) {
-        if (target == null || methodName == null) return null;
-        try {
-            Method m = target.getClass().getMethod(methodName);
-            m.setAccessible(true);
-            return m.invoke(target);
-        } catch (Throwable ignored) {
-            return null;
-        }
-    }
-
     // ---------------------------------------------------------------------
     // Delete confirmation menu (configurable under menus.homes.delete_confirm)
     // ---------------------------------------------------------------------
@@ -1089,28 +903,10 @@ public final class HomesMenu implements Listener {
         final int rows = clamp(plugin.getConfig().getInt(basePath + ".rows", 3), 1, 6);
         final boolean useFiller = plugin.getConfig().getBoolean(basePath + ".use_filler", true);
 
-        HHMConfig.MenuItemTemplate fillerTpl = HHMConfig.MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection(basePath + ".filler"),
-                new HHMConfig.MenuItemTemplate(Material.GRAY_STAINED_GLASS_PANE, " ", List.of(), false, 0)
-        );
-
-        HHMConfig.MenuItemTemplate cancelTpl = HHMConfig.MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection(basePath + ".items.cancel"),
-                new HHMConfig.MenuItemTemplate(Material.RED_STAINED_GLASS_PANE, "&cCANCEL",
-                        List.of("&7Click to cancel!"), false, 0)
-        );
-
-        HHMConfig.MenuItemTemplate homeTpl = HHMConfig.MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection(basePath + ".items.home"),
-                new HHMConfig.MenuItemTemplate(Material.LIGHT_BLUE_DYE, "&bHOME %home_name%",
-                        List.of(), false, 0)
-        );
-
-        HHMConfig.MenuItemTemplate confirmTpl = HHMConfig.MenuItemTemplate.fromSection(
-                plugin.getConfig().getConfigurationSection(basePath + ".items.confirm"),
-                new HHMConfig.MenuItemTemplate(Material.LIME_STAINED_GLASS_PANE, "&aCONFIRM",
-                        List.of("&7Click to delete"), false, 0)
-        );
+        HHMConfig.MenuItemTemplate fillerTpl = config.homesDeleteConfirmFillerItem();
+        HHMConfig.MenuItemTemplate cancelTpl = config.homesDeleteConfirmCancelItem();
+        HHMConfig.MenuItemTemplate homeTpl = config.homesDeleteConfirmHomeItem();
+        HHMConfig.MenuItemTemplate confirmTpl = config.homesDeleteConfirmConfirmItem();
 
         int invSize = rows * 9;
 
@@ -1133,18 +929,18 @@ public final class HomesMenu implements Listener {
         Inventory inv = Bukkit.createInventory(holder, invSize, AMP.deserialize(title));
 
         if (useFiller) {
-            ItemStack filler = buildNoItalics(fillerTpl, Map.of());
+            ItemStack filler = config.cachedItem(fillerTpl);
             for (int i = 0; i < inv.getSize(); i++) inv.setItem(i, filler);
         }
 
-        Map<String, String> ph = new HashMap<>();
-        ph.put("%player%", p.getName());
-        ph.put("%home%", String.valueOf(homeNumber));
-        ph.put("%home_name%", actualHomeName == null ? "" : actualHomeName);
+        TextTemplate.Values ph = new TextTemplate.Values()
+                .set(TextTemplate.Key.PLAYER, p.getName())
+                .set(TextTemplate.Key.HOME, String.valueOf(homeNumber))
+                .set(TextTemplate.Key.HOME_NAME, actualHomeName);
 
-        inv.setItem(cancelSlot, buildNoItalics(cancelTpl, ph));
+        inv.setItem(cancelSlot, config.cachedItem(cancelTpl, ph));
         inv.setItem(homeSlot, buildNoItalics(homeTpl, ph));
-        inv.setItem(confirmSlot, buildNoItalics(confirmTpl, ph));
+        inv.setItem(confirmSlot, config.cachedItem(confirmTpl, ph));
 
         p.openInventory(inv);
         openMenus.add(p.getUniqueId());
@@ -1207,15 +1003,8 @@ public final class HomesMenu implements Listener {
                         "menus.homes.delete_confirm.items.confirm"
                 );
 
-                doDeleteHomeApiFirst(p, deleteName).whenComplete((ok, err) ->
-                        Sched.run(p, () -> {
-                            try {
-                                open(p, dch.returnPage());
-                            } finally {
-                                endAction(p.getUniqueId());
-                            }
-                        })
-                );
+                deleteHomeOptimistic(p, deleteName).whenComplete((ok, err) -> endAction(p.getUniqueId()));
+                open(p, dch.returnPage());
                 return;
             }
 
@@ -1264,7 +1053,7 @@ public final class HomesMenu implements Listener {
                         "menus.homes.navigation.prev_item"
                 );
 
-                open(p, Math.max(0, holder.page() - 1));
+                turnPage(p, top, holder, Math.max(0, holder.page() - 1));
                 return;
             }
 
@@ -1275,7 +1064,7 @@ public final class HomesMenu implements Listener {
                         "menus.homes.navigation.next_item"
                 );
 
-                open(p, holder.page() + 1);
+                turnPage(p, top, holder, holder.page() + 1);
                 return;
             }
 
@@ -1295,7 +1084,7 @@ public final class HomesMenu implements Listener {
         int endHome = Math.min(holder.maxHomes(), startHome + holder.perPage() - 1);
         int countInPage = Math.max(0, endHome - startHome + 1);
 
-        HomeSlotRef ref = resolveHomeSlot(l, slot, countInPage);
+        HomeSlotRef ref = l.pageSlots(countInPage).resolve(slot);
         if (ref == null) return;
 
         int homeNumber = holder.page() * holder.perPage() + ref.indexInPage + 1;
@@ -1330,6 +1119,7 @@ public final class HomesMenu implements Listener {
             );
 
             try { Bukkit.dispatchCommand(p, "huskhomes:home " + actualName); } catch (Throwable ignored) {}
+            prewarmHome(p, actualName);
 
             boolean close = plugin.getConfig().getBoolean("menus.homes.home_items.teleport.click.close_menu", true);
             if (close) p.closeInventory();
@@ -1349,6 +1139,7 @@ public final class HomesMenu implements Listener {
 
             try {
                 top.setItem(slot, new ItemStack(Material.GRAY_STAINED_GLASS_PANE));
+                holder.forgetSlot(slot);
                 p.updateInventory();
             } catch (Throwable ignored) {}
 
@@ -1394,12 +1185,7 @@ public final class HomesMenu implements Listener {
                 }
 
                 final String deleteName = actualName;
-                doDeleteHomeApiFirst(p, deleteName).whenComplete((ok, err) ->
-                        Sched.run(p, () -> {
-                            try { refreshIfStillOpen(p); }
-                            finally { endAction(p.getUniqueId()); }
-                        })
-                );
+                deleteHomeOptimistic(p, deleteName).whenComplete((ok, err) -> endAction(p.getUniqueId()));
             }
         }
     }
@@ -1458,27 +1244,86 @@ public final class HomesMenu implements Listener {
         if (!(top.getHolder() instanceof HomesHolder holder)) return;
 
         final int maxHomes = getMaxHomes(p);
+        final CompletableFuture<List<Home>> homes = homesCache.homes(p);
 
-        final HuskHomesAPI api;
-        try {
-            api = HuskHomesAPI.getInstance();
-        } catch (Throwable t) {
+        // Already cached: render in this tick (we're on the player's thread here)
+        if (homes.isDone() && !homes.isCompletedExceptionally()) {
+            rerender(p, top, holder, maxHomes, homes.join());
             return;
         }
 
-        final OnlineUser user = api.adaptUser(p);
-
-        api.getUserHomes(user).thenAccept(homeList ->
+        homes.thenAccept(homeList ->
                 Sched.run(p, () -> {
                     if (!p.isOnline()) return;
+                    if (p.getOpenInventory().getTopInventory() != top) return;
+                    rerender(p, top, holder, maxHomes, homeList);
+                })
+        );
+    }
+
+    // Start loading a same-server home's chunk while HuskHomes' warmup runs (homes are cached by now)
+    private void prewarmHome(Player p, String homeName) {
+        if (prewarmer == null) return;
 
-                    int pages = Math.max(1, (int) Math.ceil(maxHomes / (double) holder.perPage()));
-                    int page = Math.min(Math.max(0, holder.page()), pages - 1);
+        CompletableFuture<List<Home>> homes = homesCache.homes(p);
+        if (!homes.isDone() || homes.isCompletedExceptionally()) return;
+
+        for (Home h : homes.join()) {
+            try {
+                if (h != null && homeName.equalsIgnoreCase(h.getName())) {
+                    prewarmer.prewarmLocal(p, h);
+                    return;
+                }
+            } catch (Throwable ignored) {}
+        }
+    }
+
+    private void rerender(Player p, Inventory top, HomesHolder holder, int maxHomes, List<Home> homeList) {
+        int pages = Math.max(1, (int) Math.ceil(maxHomes / (double) holder.perPage()));
+        int page = Math.min(Math.max(0, holder.page()), pages - 1);
+
+        renderIntoInventory(top, holder, page, pages, maxHomes, homeList == null ? List.of() : homeList);
+        try { p.updateInventory(); } catch (Throwable ignored) {}
+    }
 
-                    renderIntoInventory(top, holder, page, pages, maxHomes, homeList == null ? List.of() : homeList);
-                    try { p.updateInventory(); } catch (Throwable ignored) {}
+    /**
+     * Page flip: re-render into the open inventory (only changed slots are sent).
+     * Falls back to a full open if the player's max homes changed since the menu was built.
+     */
+    private void turnPage(Player p, Inventory top, HomesHolder holder, int newPage) {
+        final int maxHomes = getMaxHomes(p);
+        if (maxHomes != holder.maxHomes()) {
+            open(p, newPage);
+            return;
+        }
+
+        final CompletableFuture<List<Home>> homes = homesCache.homes(p);
+
+        // Already cached: flip in this tick (we're on the player's thread here)
+        if (homes.isDone() && !homes.isCompletedExceptionally()) {
+            renderPage(top, holder, newPage, maxHomes, homes.join());
+            return;
+        }
+
+        homes.thenAccept(homeList ->
+                Sched.run(p, () -> {
+                    if (!p.isOnline()) return;
+                    if (p.getOpenInventory().getTopInventory() != top) return;
+                    renderPage(top, holder, newPage, maxHomes, homeList);
                 })
-        );
+        ).exceptionally(ex -> {
+            Sched.run(p, () -> open(p, newPage));
+            return null;
+        });
+    }
+
+    private void renderPage(Inventory top, HomesHolder holder, int newPage, int maxHomes, List<Home> homeList) {
+        int pages = Math.max(1, (int) Math.ceil(maxHomes / (double) holder.perPage()));
+        int page = Math.min(Math.max(0, newPage), pages - 1);
+
+        // setItem already sends just the changed slots; no full updateInventory() here
+        holder.page(page);
+        renderIntoInventory(top, holder, page, pages, maxHomes, homeList == null ? List.of() : homeList);
     }
 
     // ---------------------------------------------------------------------
@@ -1486,65 +1331,64 @@ public final class HomesMenu implements Listener {
     // ---------------------------------------------------------------------
 
     private CompletableFuture<Boolean> doSetHomeApiFirst(Player p, String homeName) {
-        try {
-            HuskHomesAPI api = HuskHomesAPI.getInstance();
-            OnlineUser user = api.adaptUser(p);
+        return invalidateHomesWhenDone(p, homeWrites.setHome(p, homeName));
+    }
 
-            Object pos = null;
-            try {
-                Method adaptPos = api.getClass().getMethod("adaptPosition", org.bukkit.Location.class);
-                pos = adaptPos.invoke(api, p.getLocation());
-            } catch (Throwable ignored) {}
+    private CompletableFuture<Boolean> doDeleteHomeApiFirst(Player p, String homeName) {
+        return invalidateHomesWhenDone(p, homeWrites.deleteHome(p, homeName));
+    }
 
-            if (pos != null) {
-                for (Method m : api.getClass().getMethods()) {
-                    if (!m.getName().equalsIgnoreCase("setHome")) continue;
-                    Class<?>[] pt = m.getParameterTypes();
-                    if (pt.length == 3 && pt[1] == String.class && pt[2].isInstance(pos)) {
-                        Object out = m.invoke(api, user, homeName, pos);
-                        if (out instanceof CompletableFuture<?> cf) {
-                            @SuppressWarnings("unchecked")
-                            CompletableFuture<Object> raw = (CompletableFuture<Object>) cf;
-                            return raw.handle((r, ex) -> ex == null);
-                        }
-                        return CompletableFuture.completedFuture(true);
-                    }
-                }
-            }
-        } catch (Throwable ignored) {}
+    /**
+     * Shows the new home right away, then writes it. When the write settles the overlay is dropped
+     * and the menu re-renders from fresh data (which rolls the slot back if it failed).
+     * Call on the player's thread.
+     */
+    private CompletableFuture<Boolean> createHomeOptimistic(Player p, String homeName) {
+        final UUID uuid = p.getUniqueId();
 
-        try { Bukkit.dispatchCommand(p, "huskhomes:sethome " + homeName); } catch (Throwable ignored) {}
-        return completeAfterTicks(12L);
+        Location at = p.getLocation();
+        String world = (at.getWorld() == null) ? "" : at.getWorld().getName();
+        String server = config.proxyEnabled() ? config.backendName() : "";
+        homesCache.expectCreated(uuid, new HomesCache.PendingHome(homeName, world, server, at.getX(), at.getY(), at.getZ()));
+
+        return settleWhenDone(p, homeName, doSetHomeApiFirst(p, homeName), "&cCould not set home &f" + homeName + "&c.");
     }
 
-    private CompletableFuture<Boolean> doDeleteHomeApiFirst(Player p, String homeName) {
-        try {
-            HuskHomesAPI api = HuskHomesAPI.getInstance();
-            OnlineUser user = api.adaptUser(p);
-
-            for (Method m : api.getClass().getMethods()) {
-                if (!m.getName().equalsIgnoreCase("deleteHome") && !m.getName().equalsIgnoreCase("delHome")) continue;
-                Class<?>[] pt = m.getParameterTypes();
-                if (pt.length == 2 && pt[1] == String.class) {
-                    Object out = m.invoke(api, user, homeName);
-                    if (out instanceof CompletableFuture<?> cf) {
-                        @SuppressWarnings("unchecked")
-                        CompletableFuture<Object> raw = (CompletableFuture<Object>) cf;
-                        return raw.handle((r, ex) -> ex == null);
-                    }
-                    return CompletableFuture.completedFuture(true);
+    /**
+     * Hides the home right away and re-renders the open menu in this tick, then deletes it.
+     * Call on the player's thread.
+     */
+    private CompletableFuture<Boolean> deleteHomeOptimistic(Player p, String homeName) {
+        homesCache.expectDeleted(p.getUniqueId(), homeName);
+        refreshIfStillOpen(p);
+
+        return settleWhenDone(p, homeName, doDeleteHomeApiFirst(p, homeName), "&cCould not delete home &f" + homeName + "&c.");
+    }
+
+    // Reconcile on the player's thread once HuskHomes has answered
+    private CompletableFuture<Boolean> settleWhenDone(Player p, String homeName, CompletableFuture<Boolean> write, String failMessage) {
+        final UUID uuid = p.getUniqueId();
+        final CompletableFuture<Boolean> settled = new CompletableFuture<>();
+
+        write.whenComplete((ok, err) -> Sched.run(p, () -> {
+            homesCache.settle(uuid, homeName);
+            try {
+                // rejected writes already got HuskHomes' own message via the command fallback
+                if (err != null && p.isOnline()) {
+                    p.sendMessage(AMP.deserialize(config.prefix()).append(AMP.deserialize(failMessage)));
                 }
+                refreshIfStillOpen(p);
+            } finally {
+                settled.complete(err == null && Boolean.TRUE.equals(ok));
             }
-        } catch (Throwable ignored) {}
-
-        try { Bukkit.dispatchCommand(p, "huskhomes:delhome " + homeName); } catch (Throwable ignored) {}
-        return completeAfterTicks(12L);
+        }));
+        return settled;
     }
 
-    private CompletableFuture<Boolean> completeAfterTicks(long ticks) {
-        CompletableFuture<Boolean> cf = new CompletableFuture<>();
-        Sched.laterGlobal(ticks, () -> cf.complete(true));
-        return cf;
+    // HuskHomes events also invalidate, but the command fallback may not fire them on every version
+    private CompletableFuture<Boolean> invalidateHomesWhenDone(Player p, CompletableFuture<Boolean> f) {
+        final UUID uuid = (p == null) ? null : p.getUniqueId();
+        return f.whenComplete((ok, err) -> homesCache.invalidate(uuid));
     }
 
     // ---------------------------------------------------------------------
@@ -1563,25 +1407,6 @@ public final class HomesMenu implements Listener {
         }
     }
 
-    private HomeSlotRef resolveHomeSlot(Layout l, int clickedSlot, int countInPage) {
-        int cols = l.columns;
-
-        for (int idx = 0; idx < countInPage; idx++) {
-            int line = idx / cols;
-            int col = idx % cols;
-
-            int itemsThisLine = Math.min(cols, Math.max(0, countInPage - (line * cols)));
-
-            int bedSlot = slotForTeleport(l, line, col, itemsThisLine);
-            if (bedSlot == clickedSlot) return new HomeSlotRef(idx, HomeSlotKind.TELEPORT);
-
-            int actionSlot = slotForAction(l, line, col, itemsThisLine);
-            if (actionSlot == clickedSlot) return new HomeSlotRef(idx, HomeSlotKind.ACTION);
-        }
-
-        return null;
-    }
-
     private Material safeMaterial(Material configured, Material def) {
         return configured == null ? def : configured;
     }
@@ -1590,18 +1415,9 @@ public final class HomesMenu implements Listener {
     // Mapping + layout helpers
     // ---------------------------------------------------------------------
 
-    private Map<Integer, String> buildSlotToActualHomeNameMap(List<Home> homes, int maxHomes) {
+    private Map<Integer, String> buildSlotToActualHomeNameMap(List<String> names, int maxHomes) {
         Map<Integer, String> out = new HashMap<>();
-        if (homes == null || homes.isEmpty()) return out;
-
-        List<String> names = new ArrayList<>();
-        for (Home h : homes) {
-            if (h == null) continue;
-            String n = h.getName();
-            if (n == null) continue;
-            n = n.trim();
-            if (!n.isBlank()) names.add(n);
-        }
+        if (names == null || names.isEmpty()) return out;
 
         Set<String> usedNames = new HashSet<>();
 
@@ -1640,57 +1456,17 @@ public final class HomesMenu implements Listener {
         }
     }
 
-    private int computeLinesThatFit(Layout l) {
-        int invRows = l.rows;
-
-        int lines = 0;
-        for (int line = 0; line < 100; line++) {
-            int bedSlot = slotForTeleport(l, line, 0, l.columns);
-            int actionSlot = slotForAction(l, line, 0, l.columns);
-
-            if (!slotInInventory(bedSlot, invRows * 9) || !slotInInventory(actionSlot, invRows * 9)) break;
-
-            int bedBaseCol = l.teleportStartSlot % 9;
-            int actionBaseCol = l.actionStartSlot % 9;
-            if (bedBaseCol + (l.columns - 1) > 8) break;
-            if (actionBaseCol + (l.columns - 1) > 8) break;
-
-            lines++;
-        }
-        return Math.max(1, lines);
-    }
-
-    private int slotForTeleport(Layout l, int line, int col, int itemsThisLine) {
-        int baseRow = (l.teleportStartSlot / 9) + (line * l.lineStrideRows);
-        int baseCol = (l.teleportStartSlot % 9);
-
-        int off = perLineCenterOffset(l, itemsThisLine);
-        return baseRow * 9 + (baseCol + off + col);
-    }
-
-    private int slotForAction(Layout l, int line, int col, int itemsThisLine) {
-        int teleportBaseRow = (l.teleportStartSlot / 9) + (line * l.lineStrideRows);
-        int actionRow = teleportBaseRow + l.actionOffsetRows;
-
-        int baseCol = (l.actionStartSlot % 9);
-
-        int off = perLineCenterOffset(l, itemsThisLine);
-        return actionRow * 9 + (baseCol + off + col);
-    }
-
     private boolean slotInInventory(int slot, int size) {
         return slot >= 0 && slot < size;
     }
 
-    private Map<String, String> baseHomePlaceholders(int homeNumber, int page, int pages, int maxHomes) {
-        Map<String, String> ph = new HashMap<>();
-        ph.put("%home%", String.valueOf(homeNumber));
-        ph.put("%page%", String.valueOf(page + 1));
-        ph.put("%pages%", String.valueOf(pages));
-        ph.put("%max_homes%", String.valueOf(maxHomes));
-        ph.put("%prev_page%", String.valueOf(Math.max(1, page)));
-        ph.put("%next_page%", String.valueOf(Math.min(pages, page + 2)));
-        return ph;
+    private void baseHomePlaceholders(TextTemplate.Values ph, int homeNumber, int page, int pages, int maxHomes) {
+        ph.set(TextTemplate.Key.HOME, String.valueOf(homeNumber));
+        ph.set(TextTemplate.Key.PAGE, String.valueOf(page + 1));
+        ph.set(TextTemplate.Key.PAGES, String.valueOf(pages));
+        ph.set(TextTemplate.Key.MAX_HOMES, String.valueOf(maxHomes));
+        ph.set(TextTemplate.Key.PREV_PAGE, String.valueOf(Math.max(1, page)));
+        ph.set(TextTemplate.Key.NEXT_PAGE, String.valueOf(Math.min(pages, page + 2)));
     }
 
     private int clamp(int v, int lo, int hi) {
@@ -1701,48 +1477,6 @@ public final class HomesMenu implements Listener {
     // ✅ Max homes logic
     // ---------------------------------------------------------------------
     private int getMaxHomes(Player p) {
-        int permMax = readMaxHomesFromPermissions(p);
-        if (permMax > 0) {
-            return permMax;
-        }
-
-        int cfgMax = readHuskHomesMaxHomesFromConfig();
-        return Math.max(1, cfgMax);
-    }
-
-    private int readHuskHomesMaxHomesFromConfig() {
-        try {
-            File file = new File(Bukkit.getPluginsFolder(), "HuskHomes/config.yml");
-            if (!file.exists()) return 10;
-
-            YamlConfiguration yml = YamlConfiguration.loadConfiguration(file);
-            int v = yml.getInt("general.max_homes", 10);
-            return Math.max(1, v);
-        } catch (Throwable t) {
-            return 10;
-        }
-    }
-
-    private int readMaxHomesFromPermissions(Player p) {
-        if (p == null) return 0;
-
-        int best = 0;
-        for (var info : p.getEffectivePermissions()) {
-            if (info == null || !info.getValue()) continue;
-            String perm = info.getPermission();
-            if (perm == null) continue;
-
-            String lower = perm.toLowerCase(Locale.ROOT);
-            if (!lower.startsWith("huskhomes.max_homes.")) continue;
-
-            String tail = lower.substring("huskhomes.max_homes.".length());
-            if (tail.equals("*")) continue;
-
-            try {
-                int n = Integer.parseInt(tail);
-                if (n > best) best = n;
-            } catch (NumberFormatException ignored) {}
-        }
-        return Math.max(0, best);
+        return maxHomesService.maxHomes(p);
     }
 }
@@ -10,32 +10,21 @@
 
 package net.chumbucket.huskhomesmenus;
 
-import net.william278.huskhomes.api.HuskHomesAPI;
-import net.william278.huskhomes.position.Home;
-import net.william278.huskhomes.user.OnlineUser;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
-import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 public final class HomesTabCompleter implements TabCompleter {
 
-    private final JavaPlugin plugin;
-    private final HHMConfig config;
+    private final HomesCache homesCache;
 
-    // player UUID -> cached home names
-    private final Map<UUID, CacheEntry> cache = new ConcurrentHashMap<>();
-
-    // keep it short so it stays fresh
-    private static final long CACHE_MS = 1500L;
-
-    public HomesTabCompleter(JavaPlugin plugin, HHMConfig config, ToggleManager toggles) {
-        this.plugin = plugin;
-        this.config = config;
+    public HomesTabCompleter(HomesCache homesCache) {
+        this.homesCache = homesCache;
     }
 
     @Override
@@ -47,11 +36,8 @@ public final class HomesTabCompleter implements TabCompleter {
 
         String prefix = args[0] == null ? "" : args[0].toLowerCase(Locale.ROOT);
 
-        // Trigger async refresh if stale
-        warmCacheAsync(p);
-
-        // Return cached results immediately
-        List<String> homes = getCachedHomes(p.getUniqueId());
+        // Served from the shared homes cache (starts a background load if not cached yet)
+        List<String> homes = homesCache.homeNames(p);
         if (homes.isEmpty()) return List.of();
 
         if (prefix.isBlank()) return homes;
@@ -63,76 +49,4 @@ public final class HomesTabCompleter implements TabCompleter {
         }
         return filtered;
     }
-
-    private List<String> getCachedHomes(UUID uuid) {
-        CacheEntry e = cache.get(uuid);
-        if (e == null) return List.of();
-        return e.homes;
-    }
-
-    /**
-     * Folia-safe:
-     * - We do NOT touch Bukkit API in async callbacks beyond pure data extraction.
-     * - We only use HuskHomes API futures + our own concurrent cache.
-     *
-     * Note: adaptUser(Player) is called on the calling thread (command thread);
-     * on Folia this is already region-safe. We avoid scheduling back to Bukkit main.
-     */
-    private void warmCacheAsync(Player p) {
-        UUID uuid = p.getUniqueId();
-
-        CacheEntry existing = cache.get(uuid);
-        long now = System.currentTimeMillis();
-        if (existing != null && (now - existing.timeMs) <= CACHE_MS) return;
-
-        final HuskHomesAPI api;
-        try {
-            api = HuskHomesAPI.getInstance();
-        } catch (Throwable t) {
-            return;
-        }
-
-        final OnlineUser user;
-        try {
-            user = api.adaptUser(p);
-        } catch (Throwable t) {
-            return;
-        }
-
-        api.getUserHomes(user).thenAccept(list -> {
-            // If player logged out, we can still safely cache names (or skip).
-            // We'll skip to avoid holding stale per-player data.
-            try {
-                if (!p.isOnline()) return;
-            } catch (Throwable ignored) {}
-
-            List<String> names = new ArrayList<>();
-            if (list != null) {
-                for (Home h : list) {
-                    if (h == null) continue;
-
-                    String n;
-                    try {
-                        n = h.getName();
-                    } catch (Throwable ignored) {
-                        continue;
-                    }
-
-                    if (n == null) continue;
-                    n = n.trim();
-                    if (!n.isBlank()) names.add(n);
-                }
-            }
-
-            // stable, nice ordering
-            names.sort(String.CASE_INSENSITIVE_ORDER);
-
-            cache.put(uuid, new CacheEntry(Collections.unmodifiableList(names), System.currentTimeMillis()));
-        }).exceptionally(ex -> {
-            if (config.debug()) plugin.getLogger().warning("HomesTabCompleter failed to load homes: " + ex.getMessage());
-            return null;
-        });
-    }
-
-    private record CacheEntry(List<String> homes, long timeMs) {}
 }
@@ -27,6 +27,14 @@ public final class HuskHomesMenus extends JavaPlugin {
     private ProxyPlayerCache playerCache;
     private ConfirmRequestMenu confirmMenu;
     private HomesMenu homesMenu;
+    private PermissionRefresh permissionRefresh;
+    private MaxHomesService maxHomesService;
+    private HomesCache homesCache;
+    private SignPromptService signPrompts;
+    private WarpCatalog warpCatalog;
+    private WarpPermissions warpPermissions;
+    private WarpFavourites warpFavourites;
+    private ChunkPrewarmer chunkPrewarmer;
 
     // ✅ Warps Menu
     private WarpsMenu warpsMenu;
@@ -152,14 +160,35 @@ public final class HuskHomesMenus extends JavaPlugin {
         this.messenger = new OptionalProxyMessenger(this, config);
         this.messenger.tryEnable();
 
+        // Teleport destination prewarming (menu clicks + "incoming player" hints from other backends)
+        this.chunkPrewarmer = new ChunkPrewarmer(this, config);
+        Bukkit.getPluginManager().registerEvents(chunkPrewarmer, this);
+        final ChunkPrewarmer prewarmer = this.chunkPrewarmer;
+        this.messenger.setPrewarmSink(hint -> prewarmer.prewarm(Bukkit.getWorld(hint.world), hint.x, hint.z));
+
         // Proxy cache
         this.playerCache = new ProxyPlayerCache(this, config, messenger);
         this.playerCache.start();
 
         // Menus
         this.confirmMenu = new ConfirmRequestMenu(this, config, playerCache);
-        this.homesMenu = new HomesMenu(this, config);
-        this.warpsMenu = new WarpsMenu(this, config);
+        this.permissionRefresh = new PermissionRefresh(this);
+        this.maxHomesService = new MaxHomesService(this, permissionRefresh);
+        Bukkit.getPluginManager().registerEvents(maxHomesService, this);
+        this.homesCache = new HomesCache(this, config);
+        this.homesCache.register();
+        this.signPrompts = new SignPromptService(this, config);
+        this.signPrompts.register();
+        this.homesMenu = new HomesMenu(this, config, maxHomesService, homesCache, signPrompts,
+                chunkPrewarmer);
+        this.warpCatalog = new WarpCatalog(this, config);
+        this.warpCatalog.register();
+        this.warpPermissions = new WarpPermissions(permissionRefresh);
+        Bukkit.getPluginManager().registerEvents(warpPermissions, this);
+        this.warpFavourites = new WarpFavourites(this, config);
+        Bukkit.getPluginManager().registerEvents(warpFavourites, this);
+        this.warpsMenu = new WarpsMenu(this, config, warpCatalog, warpPermissions, signPrompts, warpFavourites,
+                messenger, chunkPrewarmer);
 
         // Register menu listeners
         Bukkit.getPluginManager().registerEvents(confirmMenu, this);
@@ -170,7 +199,7 @@ public final class HuskHomesMenus extends JavaPlugin {
         this.interceptListener = new TeleportCommandInterceptListener(confirmMenu, config, toggleManager);
         Bukkit.getPluginManager().registerEvents(interceptListener, this);
 
-        this.homesInterceptListener = new HomesCommandInterceptListener(homesMenu, toggleManager);
+        this.homesInterceptListener = new HomesCommandInterceptListener(this, homesMenu, toggleManager, config, homesCache);
         Bukkit.getPluginManager().registerEvents(homesInterceptListener, this);
 
         // ✅ Warps intercept listener (toggle ON/OFF behavior)
@@ -251,14 +280,14 @@ public final class HuskHomesMenus extends JavaPlugin {
         safeSetTabCompleter("tpaccept", new ProxyTabCompleter(playerCache, false));
         safeSetTabCompleter("tpdeny", new ProxyTabCompleter(playerCache, false));
 
-        HomesTabCompleter homesTab = new HomesTabCompleter(this, config, toggleManager);
+        HomesTabCompleter homesTab = new HomesTabCompleter(homesCache);
         safeSetTabCompleter("home", homesTab);
         safeSetTabCompleter("homes", homesTab);
 
         // PlaceholderAPI
         if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
             try {
-                new Placeholders(this, toggleManager, config).register();
+                new Placeholders(this, toggleManager, config, homesCache).register();
                 getLogger().info("PlaceholderAPI detected; placeholders registered.");
             } catch (Throwable ignored) { }
         }
@@ -275,6 +304,38 @@ public final class HuskHomesMenus extends JavaPlugin {
 
         try { if (homesMenu != null) HandlerList.unregisterAll(homesMenu); } catch (Throwable ignored) { }
         try { if (homesInterceptListener != null) HandlerList.unregisterAll(homesInterceptListener); } catch (Throwable ignored) { }
+        try {
+            if (homesCache != null) {
+                HandlerList.unregisterAll(homesCache);
+                homesCache.clear();
+            }
+        } catch (Throwable ignored) { }
+        try {
+            if (signPrompts != null) {
+                HandlerList.unregisterAll(signPrompts);
+                signPrompts.shutdown();
+            }
+        } catch (Throwable ignored) { }
+        try {
+            if (warpCatalog != null) {
+                HandlerList.unregisterAll(warpCatalog);
+                warpCatalog.clear();
+            }
+        } catch (Throwable ignored) { }
+        try {
+            if (warpPermissions != null) {
+                HandlerList.unregisterAll(warpPermissions);
+                warpPermissions.shutdown();
+            }
+        } catch (Throwable ignored) { }
+        try { if (warpFavourites != null) HandlerList.unregisterAll(warpFavourites); } catch (Throwable ignored) { }
+        try {
+            if (maxHomesService != null) {
+                HandlerList.unregisterAll(maxHomesService);
+                maxHomesService.shutdown();
+            }
+        } catch (Throwable ignored) { }
+        try { if (permissionRefresh != null) permissionRefresh.shutdown(); } catch (Throwable ignored) { }
 
         try { if (warpsMenu != null) HandlerList.unregisterAll(warpsMenu); } catch (Throwable ignored) { }
         try { if (warpsInterceptListener != null) HandlerList.unregisterAll(warpsInterceptListener); } catch (Throwable ignored) { }
@@ -287,6 +348,12 @@ public final class HuskHomesMenus extends JavaPlugin {
         closeOpenWarpsMenus();
 
         try { if (messenger != null) messenger.disable(); } catch (Throwable ignored) { }
+        try {
+            if (chunkPrewarmer != null) {
+                HandlerList.unregisterAll(chunkPrewarmer);
+                chunkPrewarmer.shutdown();
+            }
+        } catch (Throwable ignored) { }
         try { PendingRequests.clearGlobalSkins(); } catch (Throwable ignored) { }
 
         this.playerCache = null;
@@ -298,6 +365,14 @@ public final class HuskHomesMenus extends JavaPlugin {
         this.config = null;
 
         this.homesMenu = null;
+        this.maxHomesService = null;
+        this.permissionRefresh = null;
+        this.homesCache = null;
+        this.signPrompts = null;
+        this.warpCatalog = null;
+        this.warpPermissions = null;
+        this.warpFavourites = null;
+        this.chunkPrewarmer = null;
         this.homesInterceptListener = null;
 
         this.warpsMenu = null;
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+/**
+ * When the caches of HuskHomes data ({@link HomesCache}, {@link WarpCatalog}) drop what they hold.
+ *
+ * HuskHomes' create/delete/edit events fire before it writes to its database, so an entry dropped
+ * on the event is dropped again {@link #REFRESH_DELAY_TICKS} later to pick up the saved state.
+ *
+ * Behind a proxy, homes and warps can also change on other backends (shared database), which fire
+ * no events here, so entries only live briefly. On a lone server the events cover every change and
+ * the TTL is just a safety net.
+ *
+ * Both caches only hold HuskHomes futures and concurrent/volatile state; callers hop threads themselves.
+ */
+final class HuskHomesRefresh {
+
+    static final long REFRESH_DELAY_TICKS = 20L;
+
+    private static final long TTL_PROXY_MS = 30_000L;
+    private static final long TTL_LOCAL_MS = 10 * 60_000L;
+
+    private HuskHomesRefresh() {}
+
+    static long ttlMs(HHMConfig config) {
+        return config.proxyEnabled() ? TTL_PROXY_MS : TTL_LOCAL_MS;
+    }
+}
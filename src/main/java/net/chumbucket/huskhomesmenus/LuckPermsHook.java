@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Optional LuckPerms integration.
+ *
+ * Only loaded when LuckPerms is enabled (same pattern as {@link Placeholders}), so servers
+ * without LuckPerms never resolve these classes.
+ */
+final class LuckPermsHook {
+
+    private final EventSubscription<UserDataRecalculateEvent> recalcSub;
+
+    /**
+     * @param onRecalculate called (on a LuckPerms thread) with the UUID of a user whose
+     *                      permission data was just recalculated
+     */
+    LuckPermsHook(JavaPlugin plugin, Consumer<UUID> onRecalculate) {
+        this.recalcSub = LuckPermsProvider.get().getEventBus().subscribe(plugin, UserDataRecalculateEvent.class, e -> {
+            try {
+                onRecalculate.accept(e.getUser().getUniqueId());
+            } catch (Throwable ignored) {}
+        });
+    }
+
+    void close() {
+        try { recalcSub.close(); } catch (Throwable ignored) {}
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.william278.huskhomes.api.HuskHomesAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves how many homes a player may have, without touching disk on menu open.
+ *
+ * The HuskHomes default (general.max_homes) is read from HuskHomes' in-memory settings when the
+ * API exposes them (so /huskhomes reload is picked up automatically). HuskHomes/config.yml is also
+ * parsed once here as the fallback; a new instance is created on enable and on /hhm reload.
+ *
+ * The per-player huskhomes.max_homes.N permission limit is computed on join and cached. With
+ * LuckPerms it is recomputed when the user's data is recalculated; without it, entries expire
+ * after a short TTL (see {@link PermissionRefresh}).
+ */
+public final class MaxHomesService implements Listener {
+
+    private static final int FALLBACK_MAX_HOMES = 10;
+    private static final String PERM_PREFIX = "huskhomes.max_homes.";
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final JavaPlugin plugin;
+
+    private record PermMax(int value, long computedAtMs) {}
+
+    // player -> best huskhomes.max_homes.N (0 = none)
+    private final ConcurrentHashMap<UUID, PermMax> permMax = new ConcurrentHashMap<>();
+
+    private final long ttlMs;
+
+    // HuskHomes settings -> max homes, bound once as ()Object; null if this build doesn't expose it.
+    // Invoked per read because /huskhomes reload swaps the settings object.
+    private final MethodHandle settingsMaxHomes;
+
+    // Last good value: parsed once from HuskHomes/config.yml, then whatever the settings chain last returned
+    private volatile int knownMaxHomes;
+
+    public MaxHomesService(JavaPlugin plugin, PermissionRefresh permissionRefresh) {
+        this.plugin = plugin;
+
+        this.settingsMaxHomes = bindSettingsMaxHomes();
+        this.knownMaxHomes = readHuskHomesMaxHomesFromConfig();
+
+        this.ttlMs = permissionRefresh.ttlMs();
+        permissionRefresh.subscribe(this::onPermissionsRecalculated);
+    }
+
+    public void shutdown() {
+        permMax.clear();
+    }
+
+    /**
+     * Max homes for this player: the highest huskhomes.max_homes.N they have, else HuskHomes' default.
+     * Must be called on the player's thread (reads effective permissions on a cache miss).
+     */
+    public int maxHomes(Player p) {
+        int fromPerms = permissionMaxHomes(p);
+        if (fromPerms > 0) return fromPerms;
+        return Math.max(1, defaultMaxHomes());
+    }
+
+    /**
+     * HuskHomes' default max homes (for players without a huskhomes.max_homes.N permission).
+     */
+    public int defaultMaxHomes() {
+        if (settingsMaxHomes != null) {
+            try {
+                Object v = (Object) settingsMaxHomes.invokeExact();
+                if (v instanceof Number n && n.intValue() > 0) return knownMaxHomes = n.intValue();
+            } catch (Throwable ignored) {}
+        }
+        return knownMaxHomes;
+    }
+
+    // ---------------------------------------------------------------------
+    // Per-player permission limit
+    // ---------------------------------------------------------------------
+
+    private int permissionMaxHomes(Player p) {
+        if (p == null) return 0;
+
+        final long now = System.currentTimeMillis();
+        PermMax cached = permMax.get(p.getUniqueId());
+        if (cached != null && (now - cached.computedAtMs()) < ttlMs) return cached.value();
+
+        int v = readMaxHomesFromPermissions(p);
+        permMax.put(p.getUniqueId(), new PermMax(v, now));
+        return v;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        Player p = e.getPlayer();
+        permMax.put(p.getUniqueId(), new PermMax(readMaxHomesFromPermissions(p), System.currentTimeMillis()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        permMax.remove(e.getPlayer().getUniqueId());
+    }
+
+    // LuckPerms thread: drop the entry, then recompute on the player's own thread
+    private void onPermissionsRecalculated(UUID uuid) {
+        if (uuid == null) return;
+        permMax.remove(uuid);
+
+        Player p = Bukkit.getPlayer(uuid);
+        if (p == null) return;
+        Sched.run(p, () -> {
+            if (!p.isOnline()) return;
+            permMax.put(uuid, new PermMax(readMaxHomesFromPermissions(p), System.currentTimeMillis()));
+        });
+    }
+
+    private static int readMaxHomesFromPermissions(Player p) {
+        if (p == null) return 0;
+
+        int best = 0;
+        for (var info : p.getEffectivePermissions()) {
+            if (info == null || !info.getValue()) continue;
+            String perm = info.getPermission();
+            if (perm == null) continue;
+
+            String lower = perm.toLowerCase(Locale.ROOT);
+            if (!lower.startsWith(PERM_PREFIX)) continue;
+
+            String tail = lower.substring(PERM_PREFIX.length());
+            if (tail.equals("*")) continue;
+
+            try {
+                int n = Integer.parseInt(tail);
+                if (n > best) best = n;
+            } catch (NumberFormatException ignored) {}
+        }
+        return Math.max(0, best);
+    }
+
+    // ---------------------------------------------------------------------
+    // HuskHomes settings (best-effort across 4.x versions, bound once)
+    // ---------------------------------------------------------------------
+
+    // plugin.getSettings() then getGeneral().getMaxHomes() (4.6+) or getMaxHomes() (older).
+    // Not HuskHomes API: the plugin instance is HuskHomesAPI's private "plugin" field, read through
+    // setAccessible, so any HuskHomes update may break this (we then fall back to config.yml).
+    private static MethodHandle bindSettingsMaxHomes() {
+        try {
+            Object hh = findFieldValue(HuskHomesAPI.getInstance(), "plugin");
+            if (hh == null) return null;
+
+            MethodHandle settings = getter(hh.getClass(), "getSettings");
+            if (settings == null) return null;
+            settings = settings.bindTo(hh);
+
+            Object s = (Object) settings.invokeExact();
+            if (s == null) return null;
+
+            MethodHandle chain = null;
+            MethodHandle general = getter(s.getClass(), "getGeneral");
+            if (general != null) {
+                Object g = (Object) general.invokeExact(s);
+                MethodHandle max = (g == null) ? null : getter(g.getClass(), "getMaxHomes");
+                if (max != null) chain = MethodHandles.filterReturnValue(MethodHandles.filterReturnValue(settings, general), max);
+            }
+            if (chain == null) {
+                MethodHandle max = getter(s.getClass(), "getMaxHomes");
+                if (max != null) chain = MethodHandles.filterReturnValue(settings, max);
+            }
+
+            return (chain != null && (Object) chain.invokeExact() instanceof Number) ? chain : null;
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private int readHuskHomesMaxHomesFromConfig() {
+        try {
+            File file = new File(Bukkit.getPluginsFolder(), "HuskHomes/config.yml");
+            if (!file.exists()) return FALLBACK_MAX_HOMES;
+
+            YamlConfiguration yml = YamlConfiguration.loadConfiguration(file);
+            int v = yml.getInt("general.max_homes", FALLBACK_MAX_HOMES);
+            return Math.max(1, v);
+        } catch (Throwable t) {
+            if (plugin.getConfig().getBoolean("debug", false)) {
+                plugin.getLogger().warning("Could not read HuskHomes max_homes: " + t.getMessage());
+            }
+            return FALLBACK_MAX_HOMES;
+        }
+    }
+
+    // public no-arg method bound as (Object)Object; null if missing
+    private static MethodHandle getter(Class<?> type, String name) {
+        try {
+            Method m = type.getMethod(name);
+            m.setAccessible(true);
+            return MethodHandles.lookup().unreflect(m).asType(GETTER);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    private static Object findFieldValue(Object target, String name) {
+        if (target == null) return null;
+        Class<?> c = target.getClass();
+        while (c != null && c != Object.class) {
+            try {
+                Field f = c.getDeclaredField(name);
+                f.setAccessible(true);
+                return f.get(target);
+            } catch (NoSuchFieldException ignored) {
+                c = c.getSuperclass();
+            } catch (Throwable t) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -85,6 +85,24 @@ public final class OptionalProxyMessenger implements PluginMessageListener {
 
     private volatile Consumer<SkinResponse> skinSink;
 
+    // =========================================================
+    // ✅ Incoming player hint sink (warp prewarm)
+    // =========================================================
+
+    public static final class PrewarmHint {
+        public final String world;
+        public final double x;
+        public final double z;
+
+        public PrewarmHint(String world, double x, double z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+    }
+
+    private volatile Consumer<PrewarmHint> prewarmSink;
+
     public OptionalProxyMessenger(JavaPlugin plugin, HHMConfig config) {
         this.plugin = plugin;
         this.config = config;
@@ -102,6 +120,10 @@ public final class OptionalProxyMessenger implements PluginMessageListener {
         this.skinSink = sink;
     }
 
+    public void setPrewarmSink(Consumer<PrewarmHint> sink) {
+        this.prewarmSink = sink;
+    }
+
     public void tryEnable() {
         if (!config.proxyEnabled()) {
             enabled = false;
@@ -241,6 +263,54 @@ public final class OptionalProxyMessenger implements PluginMessageListener {
         }
     }
 
+    // =========================================================
+    // Forward to a backend server
+    // =========================================================
+
+    /**
+     * The proxy only delivers this if the target server has at least one player online.
+     */
+    public boolean forwardSubchannelToServer(Player carrier, String server, String subchannel, byte[] data) {
+        if (!enabled) return false;
+        if (server == null || server.isBlank()) return false;
+        if (subchannel == null || subchannel.isBlank()) return false;
+        if (data == null) data = new byte[0];
+
+        try {
+            if (carrier == null) carrier = anyOnlinePlayer();
+            if (carrier == null) return false;
+
+            byte[] forward = buildForwardPacket(server, subchannel, data);
+            return sendPayload(carrier, forward);
+        } catch (Throwable t) {
+            plugin.getLogger().warning("Failed to proxy-forward to server '" + server + "': " + t.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Tell another backend that a player is about to arrive at (world, x, z) so it can start
+     * loading that chunk during the teleport warmup. Best-effort; nothing comes back.
+     */
+    public boolean sendWarpPrewarm(Player carrier, String server, String world, double x, double z) {
+        if (!enabled) return false;
+        if (world == null || world.isBlank()) return false;
+        if (Double.isNaN(x) || Double.isNaN(z)) return false;
+
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(payloadBytes);
+            out.writeUTF("WARP_PREWARM");
+            out.writeUTF(world);
+            out.writeDouble(x);
+            out.writeDouble(z);
+
+            return forwardSubchannelToServer(carrier, server, SUBCHANNEL, payloadBytes.toByteArray());
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
     /**
      * Ask a (possibly remote) player what dimension they are in.
      * The remote backend replies back to requesterName with DIM_RESP(subjectName, dimension, requestId).
@@ -396,6 +466,17 @@ public final class OptionalProxyMessenger implements PluginMessageListener {
         return bytes.toByteArray();
     }
 
+    private byte[] buildForwardPacket(String server, String subchannel, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF("Forward");
+        out.writeUTF(server);
+        out.writeUTF(subchannel);
+        out.writeShort(data.length);
+        out.write(data);
+        return bytes.toByteArray();
+    }
+
     private byte[] buildGetServersPacket() throws IOException {
         ByteArrayOutputStream bytes = new ByteArrayOutputStream();
         DataOutputStream out = new DataOutputStream(bytes);
@@ -586,6 +667,21 @@ public final class OptionalProxyMessenger implements PluginMessageListener {
                         return;
                     }
 
+                    // =================================================
+                    // WARP PREWARM
+                    // =================================================
+                    if ("WARP_PREWARM".equalsIgnoreCase(cmd)) {
+                        String world = din.readUTF();
+                        double x = din.readDouble();
+                        double z = din.readDouble();
+
+                        Consumer<PrewarmHint> sink = this.prewarmSink;
+                        if (sink != null && world != null && !world.isBlank()) {
+                            try { sink.accept(new PrewarmHint(world, x, z)); } catch (Throwable ignored) {}
+                        }
+                        return;
+                    }
+
                     // =================================================
                     // SKIN
                     // =================================================
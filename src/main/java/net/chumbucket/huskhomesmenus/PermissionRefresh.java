@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Tells the per-player permission caches ({@link MaxHomesService}, {@link WarpPermissions}) when
+ * a player's permissions change, and how long their entries may live.
+ *
+ * With LuckPerms, one {@link LuckPermsHook} subscription pushes every recalculation to all
+ * subscribers, so the TTL is only a safety net. Without it, the short TTL is the refresh path.
+ */
+public final class PermissionRefresh {
+
+    private static final long TTL_WITH_LUCKPERMS_MS = 5 * 60_000L;
+    private static final long TTL_WITHOUT_LUCKPERMS_MS = 15_000L;
+
+    private final List<Consumer<UUID>> subscribers = new CopyOnWriteArrayList<>();
+
+    private LuckPermsHook luckPerms;
+    private final long ttlMs;
+
+    public PermissionRefresh(JavaPlugin plugin) {
+        if (Bukkit.getPluginManager().isPluginEnabled("LuckPerms")) {
+            try {
+                this.luckPerms = new LuckPermsHook(plugin, this::onRecalculated);
+            } catch (Throwable t) {
+                plugin.getLogger().warning("LuckPerms hook failed: " + t.getClass().getSimpleName() + ": " + t.getMessage());
+                this.luckPerms = null;
+            }
+        }
+        this.ttlMs = (luckPerms != null) ? TTL_WITH_LUCKPERMS_MS : TTL_WITHOUT_LUCKPERMS_MS;
+    }
+
+    /**
+     * How long a cached per-player permission result stays valid.
+     */
+    public long ttlMs() {
+        return ttlMs;
+    }
+
+    /**
+     * @param onRecalculate called (on a LuckPerms thread) with the UUID of a user whose
+     *                      permission data was just recalculated
+     */
+    public void subscribe(Consumer<UUID> onRecalculate) {
+        if (onRecalculate != null) subscribers.add(onRecalculate);
+    }
+
+    public void shutdown() {
+        if (luckPerms != null) luckPerms.close();
+        luckPerms = null;
+        subscribers.clear();
+    }
+
+    private void onRecalculated(UUID uuid) {
+        if (uuid == null) return;
+        for (Consumer<UUID> s : subscribers) {
+            try { s.accept(uuid); } catch (Throwable ignored) {}
+        }
+    }
+}
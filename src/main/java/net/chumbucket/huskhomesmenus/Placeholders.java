@@ -25,12 +25,14 @@ public final class Placeholders extends PlaceholderExpansion {
 
     private final JavaPlugin plugin;
     private final ToggleManager toggles;
+    private final HomesCache homesCache;
 
     private static final LegacyComponentSerializer AMP = LegacyComponentSerializer.legacyAmpersand();
 
-    public Placeholders(JavaPlugin plugin, ToggleManager toggles, HHMConfig config) {
+    public Placeholders(JavaPlugin plugin, ToggleManager toggles, HHMConfig config, HomesCache homesCache) {
         this.plugin = plugin;
         this.toggles = toggles;
+        this.homesCache = homesCache;
     }
 
     @Override
@@ -134,6 +136,17 @@ public final class Placeholders extends PlaceholderExpansion {
                         + " &7| &fTPMENU: " + (tpmenu ? "&a&lON" : "&c&lOFF")
                         + " &7| &fTPAUTO: " + (tpauto ? "&a&lON" : "&c&lOFF"));
 
+            // -------------------------
+            // Homes (shared homes cache; "0" until loaded)
+            // -------------------------
+            case "homes_count": {
+                int count = -1;
+                try {
+                    if (homesCache != null) count = homesCache.homeCount(player);
+                } catch (Throwable ignored) {}
+                return String.valueOf(Math.max(0, count));
+            }
+
             default:
                 return null;
         }
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.World;
+
+/**
+ * World/server/x/y/z of a HuskHomes Home or Warp through the typed {@link Position} getters.
+ *
+ * Null-safe: unknown values come back as "" (or NaN for coordinates).
+ */
+public final class PositionAccessor {
+
+    private PositionAccessor() {}
+
+    public static String world(Position pos) {
+        if (pos == null) return "";
+        World w = pos.getWorld();
+        String n = (w == null) ? null : w.getName();
+        return n == null ? "" : n;
+    }
+
+    public static String server(Position pos) {
+        if (pos == null) return "";
+        String s = pos.getServer();
+        return s == null ? "" : s;
+    }
+
+    public static double x(Position pos) {
+        return pos == null ? Double.NaN : pos.getX();
+    }
+
+    public static double y(Position pos) {
+        return pos == null ? Double.NaN : pos.getY();
+    }
+
+    public static double z(Position pos) {
+        return pos == null ? Double.NaN : pos.getZ();
+    }
+}
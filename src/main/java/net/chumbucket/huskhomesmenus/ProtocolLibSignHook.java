@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.events.PacketEvent;
+import com.comphenix.protocol.wrappers.BlockPosition;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Optional ProtocolLib integration: packet-level sign editor (OPEN_SIGN_EDITOR out, UPDATE_SIGN in).
+ *
+ * Only loaded when ProtocolLib is enabled (same pattern as {@link LuckPermsHook}), so servers
+ * without ProtocolLib never resolve these classes.
+ */
+final class ProtocolLibSignHook {
+
+    /**
+     * Called on a netty thread for every sign edit the client sends.
+     * Return true if the edit belongs to one of our prompts (the packet is then dropped).
+     */
+    interface EditHandler {
+        boolean onEdit(Player p, int x, int y, int z, String[] lines);
+    }
+
+    private final ProtocolManager protocol;
+    private final PacketAdapter updateSign;
+
+    ProtocolLibSignHook(JavaPlugin plugin, EditHandler handler) {
+        this.protocol = ProtocolLibrary.getProtocolManager();
+        this.updateSign = new PacketAdapter(plugin, ListenerPriority.NORMAL, PacketType.Play.Client.UPDATE_SIGN) {
+            @Override
+            public void onPacketReceiving(PacketEvent e) {
+                Player p = e.getPlayer();
+                if (p == null) return;
+                try {
+                    PacketContainer packet = e.getPacket();
+                    BlockPosition pos = packet.getBlockPositionModifier().read(0);
+                    String[] lines = packet.getStringArrays().read(0);
+                    if (pos == null) return;
+
+                    if (handler.onEdit(p, pos.getX(), pos.getY(), pos.getZ(), lines == null ? new String[0] : lines)) {
+                        // there is no sign there server-side; don't let the server look for one
+                        e.setCancelled(true);
+                    }
+                } catch (Throwable ignored) {}
+            }
+        };
+        protocol.addPacketListener(updateSign);
+    }
+
+    /**
+     * Opens the sign editor at a block the client already sees as a sign (sendBlockChange).
+     */
+    void openEditor(Player p, int x, int y, int z) {
+        PacketContainer open = protocol.createPacket(PacketType.Play.Server.OPEN_SIGN_EDITOR);
+        open.getBlockPositionModifier().write(0, new BlockPosition(x, y, z));
+
+        // 1.20+: edit the front side
+        if (open.getBooleans().size() > 0) open.getBooleans().write(0, true);
+
+        protocol.sendServerPacket(p, open);
+    }
+
+    void close() {
+        try { protocol.removePacketListener(updateSign); } catch (Throwable ignored) {}
+    }
+}
@@ -15,6 +15,7 @@ import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.lang.reflect.Method;
 import java.util.Objects;
@@ -219,6 +220,91 @@ public final class Sched {
         later(delayTicks, task);
     }
 
+    // =========================================================
+    // ✅ Cancellable timers
+    // =========================================================
+
+    /**
+     * Handle for a scheduled task (Bukkit BukkitTask / Folia ScheduledTask).
+     */
+    public interface Task {
+        void cancel();
+    }
+
+    private static final Task NO_TASK = () -> {};
+
+    /**
+     * Like {@link #later(Player, long, Runnable)}, but the task can be cancelled before it runs.
+     * On Folia the task is dropped by the server if the player leaves first.
+     */
+    public static Task laterTask(Player player, long delayTicks, Runnable task) {
+        if (task == null) return NO_TASK;
+        if (player == null) {
+            later(Math.max(1L, delayTicks), task);
+            return NO_TASK;
+        }
+
+        // Folia path: player.getScheduler().runDelayed(plugin, consumerTask, null, delayTicks) -> ScheduledTask
+        try {
+            Method getScheduler = player.getClass().getMethod("getScheduler");
+            Object scheduler = getScheduler.invoke(player);
+            Method runDelayed = (scheduler == null) ? null : findMethod(scheduler.getClass(), "runDelayed", 4);
+            if (runDelayed != null) {
+                Object consumer = java.lang.reflect.Proxy.newProxyInstance(
+                        scheduler.getClass().getClassLoader(),
+                        new Class[]{runDelayed.getParameterTypes()[1]},
+                        (proxy, method, args) -> {
+                            try { task.run(); } catch (Throwable ignored) {}
+                            return null;
+                        }
+                );
+
+                Object scheduled = runDelayed.invoke(scheduler, plugin(), consumer, null, Math.max(1L, delayTicks));
+                if (scheduled == null) return NO_TASK; // player already retired
+                Method cancel = scheduled.getClass().getMethod("cancel");
+                return () -> {
+                    try { cancel.invoke(scheduled); } catch (Throwable ignored) {}
+                };
+            }
+        } catch (NoSuchMethodException ignored) {
+            // not folia
+        } catch (Throwable t) {
+            plugin().getLogger().log(Level.FINEST, "Folia player scheduler runDelayed failed", t);
+        }
+
+        // Bukkit path
+        try {
+            BukkitTask scheduled = Bukkit.getScheduler().runTaskLater(plugin(), task, Math.max(1L, delayTicks));
+            return scheduled::cancel;
+        } catch (Throwable t) {
+            plugin().getLogger().log(Level.WARNING, "Sched.laterTask failed, falling back to later()", t);
+            later(player, delayTicks, task);
+            return NO_TASK;
+        }
+    }
+
+    // =========================================================
+    // ✅ Async (off any tick thread)
+    // =========================================================
+
+    /**
+     * Run a task off the main/region threads (blocking I/O, database writes).
+     * Folia: AsyncScheduler
+     * Non-Folia: BukkitScheduler async pool
+     */
+    public static void async(Runnable task) {
+        if (task == null) return;
+
+        if (tryRunOnAsyncScheduler(task)) return;
+
+        try {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin(), task);
+        } catch (Throwable t) {
+            plugin().getLogger().log(Level.WARNING, "Sched.async failed, running inline", t);
+            try { task.run(); } catch (Throwable ignored) {}
+        }
+    }
+
     // =========================================================
     // Folia reflection helpers
     // =========================================================
@@ -339,6 +425,35 @@ public final class Sched {
         }
     }
 
+    private static boolean tryRunOnAsyncScheduler(Runnable task) {
+        try {
+            Method getAsync = Bukkit.class.getMethod("getAsyncScheduler");
+            Object async = getAsync.invoke(null);
+            if (async == null) return false;
+
+            // AsyncScheduler#runNow(Plugin, Consumer<ScheduledTask>)
+            Method runNow = findMethod(async.getClass(), "runNow", 2);
+            if (runNow == null) return false;
+
+            Object consumer = java.lang.reflect.Proxy.newProxyInstance(
+                    async.getClass().getClassLoader(),
+                    new Class[]{runNow.getParameterTypes()[1]},
+                    (proxy, method, args) -> {
+                        try { task.run(); } catch (Throwable ignored) {}
+                        return null;
+                    }
+            );
+
+            runNow.invoke(async, plugin(), consumer);
+            return true;
+        } catch (NoSuchMethodException ignored) {
+            return false; // not folia / old paper
+        } catch (Throwable t) {
+            plugin().getLogger().log(Level.FINEST, "Folia async scheduler runNow failed", t);
+            return false;
+        }
+    }
+
     private static boolean tryRunOnRegionScheduler(Location loc, Runnable task) {
         try {
             Method getRegion = Bukkit.class.getMethod("getRegionScheduler");
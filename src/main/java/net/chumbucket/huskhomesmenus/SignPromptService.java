@@ -0,0 +1,538 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.Sign;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Sign text prompts (e.g. naming a home).
+ *
+ * Prefer a sign that only exists client-side (sendBlockChange), so the world is never touched:
+ * - ProtocolLib: OPEN_SIGN_EDITOR is sent and the client's UPDATE_SIGN is captured (and dropped)
+ * - Paper: openVirtualSign + UncheckedSignChangeEvent
+ * Only without either is a real sign placed (and restored afterwards) on the region thread.
+ *
+ * One session per player. Sessions end on submit, quit, a newer prompt, or a cancellable timeout,
+ * and every end path restores the block (real or client-side) exactly once.
+ */
+public final class SignPromptService implements Listener {
+
+    private static final LegacyComponentSerializer AMP = LegacyComponentSerializer.legacyAmpersand();
+
+    // If the player ESCs the editor, no event fires
+    private static final long TIMEOUT_TICKS = 20L * 60L;
+
+    // Paper: fired for edits at positions the server hasn't verified (virtual signs)
+    private static final String UNCHECKED_SIGN_EVENT = "io.papermc.paper.event.packet.UncheckedSignChangeEvent";
+
+    private final JavaPlugin plugin;
+    private final HHMConfig config;
+
+    private final ConcurrentHashMap<UUID, Session> sessions = new ConcurrentHashMap<>();
+
+    // Paper virtual sign API (null = place real signs)
+    private final Method openVirtualSign;
+    private final Method positionBlock;
+    private final Object sideFront;
+    private boolean uncheckedEventHooked;
+
+    private ProtocolLibSignHook protocolLib;
+
+    private static final class Session {
+        final UUID owner;
+        final World world;
+        final int x, y, z;
+        final boolean virtual;
+
+        // what was there (virtual: what the client should see again)
+        final Material originalType;
+        final BlockData originalData;
+
+        final BiConsumer<Player, String[]> onSubmit;
+        volatile Sched.Task timeout;
+
+        Session(UUID owner, World world, int x, int y, int z, boolean virtual,
+                Material originalType, BlockData originalData, BiConsumer<Player, String[]> onSubmit) {
+            this.owner = owner;
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.virtual = virtual;
+            this.originalType = originalType;
+            this.originalData = originalData;
+            this.onSubmit = onSubmit;
+        }
+
+        boolean at(World w, int bx, int by, int bz) {
+            return world.equals(w) && x == bx && y == by && z == bz;
+        }
+
+        Location location() {
+            return new Location(world, x, y, z);
+        }
+    }
+
+    public SignPromptService(JavaPlugin plugin, HHMConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+
+        Method open = null, block = null;
+        Object front = null;
+        try {
+            Class<?> positionClz = Class.forName("io.papermc.paper.math.Position");
+            Class<?> sideClz = Class.forName("org.bukkit.block.sign.Side");
+            Class.forName(UNCHECKED_SIGN_EVENT);
+
+            open = Player.class.getMethod("openVirtualSign", positionClz, sideClz);
+            block = positionClz.getMethod("block", int.class, int.class, int.class);
+            for (Object c : sideClz.getEnumConstants()) {
+                if (c instanceof Enum<?> en && "FRONT".equals(en.name())) front = c;
+            }
+        } catch (Throwable ignored) {
+            open = null;
+        }
+
+        boolean ok = open != null && block != null && front != null;
+        this.openVirtualSign = ok ? open : null;
+        this.positionBlock = ok ? block : null;
+        this.sideFront = ok ? front : null;
+    }
+
+    /**
+     * Registers this service (and the ProtocolLib / Paper virtual sign hooks when available).
+     */
+    public void register() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+
+        if (Bukkit.getPluginManager().isPluginEnabled("ProtocolLib")) {
+            try {
+                this.protocolLib = new ProtocolLibSignHook(plugin, this::onPacketSignEdit);
+            } catch (Throwable t) {
+                plugin.getLogger().warning("ProtocolLib sign hook failed: " + t.getClass().getSimpleName() + ": " + t.getMessage());
+                this.protocolLib = null;
+            }
+        }
+
+        if (openVirtualSign == null) return;
+
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends Event> eventClass = (Class<? extends Event>) Class.forName(UNCHECKED_SIGN_EVENT);
+            Bukkit.getPluginManager().registerEvent(
+                    eventClass, this, EventPriority.HIGHEST,
+                    (listener, event) -> {
+                        if (eventClass.isInstance(event)) onUncheckedSignChange(event);
+                    },
+                    plugin, false
+            );
+            uncheckedEventHooked = true;
+        } catch (Throwable t) {
+            if (config.debug()) plugin.getLogger().warning("SignPromptService: virtual signs unavailable: " + t.getMessage());
+        }
+    }
+
+    /**
+     * Ends every open prompt (restoring blocks). Call on disable/reload.
+     */
+    public void shutdown() {
+        for (UUID id : sessions.keySet()) end(id);
+        if (protocolLib != null) protocolLib.close();
+        protocolLib = null;
+    }
+
+    // ---------------------------------------------------------------------
+    // Prompt
+    // ---------------------------------------------------------------------
+
+    /**
+     * Opens a sign editor pre-filled with {@code lines} near the player. {@code onSubmit} runs on the
+     * player's thread with the four edited lines (legacy &-colors). Call on the player's thread.
+     *
+     * @return false if there was no usable spot near the player
+     */
+    public boolean prompt(Player p, Material signMat, String[] lines, BiConsumer<Player, String[]> onSubmit) {
+        if (p == null || !p.isOnline() || onSubmit == null) return false;
+
+        // a newer prompt replaces the old one
+        end(p.getUniqueId());
+
+        Location spot = findSpot(p.getLocation());
+        if (spot == null) return false;
+
+        final String[] plain = plainLines(lines);
+
+        if (protocolLib != null || (openVirtualSign != null && uncheckedEventHooked)) {
+            // findSpot only picks air, so that's what the client gets shown again afterwards
+            World w = spot.getWorld();
+            Material was = w.getType(spot.getBlockX(), spot.getBlockY(), spot.getBlockZ());
+            Session s = new Session(p.getUniqueId(), w,
+                    spot.getBlockX(), spot.getBlockY(), spot.getBlockZ(), true, was, was.createBlockData(), onSubmit);
+            start(p, s);
+            if (openVirtual(p, s, signMat, plain)) return true;
+            end(p.getUniqueId(), s);
+        }
+
+        // Region-safe: place + edit sign on that location's region thread
+        Sched.runAt(spot, () -> {
+            if (!p.isOnline()) return;
+
+            Block b = spot.getBlock();
+            Session s = new Session(p.getUniqueId(), spot.getWorld(),
+                    spot.getBlockX(), spot.getBlockY(), spot.getBlockZ(), false, b.getType(), b.getBlockData(), onSubmit);
+
+            try {
+                b.setType(signMat, false);
+            } catch (Throwable t) {
+                Sched.run(p, () ->
+                        p.sendMessage(AMP.deserialize(config.prefix()).append(AMP.deserialize("&cCouldn't place sign.")))
+                );
+                return;
+            }
+
+            try {
+                if (b.getState() instanceof Sign sign) {
+                    setSignLinesBestEffort(sign, plain);
+                    try { sign.update(true, false); } catch (Throwable ignored) {}
+                }
+            } catch (Throwable ignored) {}
+
+            // Store session after sign exists
+            start(p, s);
+
+            // Open editor after tiny delay so client has sign text
+            Sched.later(p, 2L, () -> {
+                if (!p.isOnline() || sessions.get(p.getUniqueId()) != s) return;
+
+                // Push preview to THIS player (prevents blank editor race)
+                try { p.sendSignChange(s.location(), plain); } catch (Throwable ignored) {}
+
+                // Grab sign state region-safe, then open editor on player thread
+                Sched.runAt(s.location(), () -> {
+                    if (!(s.location().getBlock().getState() instanceof Sign sign)) {
+                        end(p.getUniqueId(), s);
+                        return;
+                    }
+                    Sched.run(p, () -> openSignEditorBestEffort(p, sign));
+                });
+            });
+        });
+        return true;
+    }
+
+    private void start(Player p, Session s) {
+        Session old = sessions.put(s.owner, s);
+        if (old != null && old != s) restore(old);
+        s.timeout = Sched.laterTask(p, TIMEOUT_TICKS, () -> end(s.owner, s));
+    }
+
+    private boolean openVirtual(Player p, Session s, Material signMat, String[] plain) {
+        try {
+            Location loc = s.location();
+            p.sendBlockChange(loc, signMat.createBlockData());
+            p.sendSignChange(loc, plain);
+
+            if (protocolLib != null) {
+                protocolLib.openEditor(p, s.x, s.y, s.z);
+            } else {
+                openVirtualSign.invoke(p, positionBlock.invoke(null, s.x, s.y, s.z), sideFront);
+            }
+            return true;
+        } catch (Throwable t) {
+            if (config.debug()) plugin.getLogger().warning("Virtual sign failed, placing a real one: " + t.getMessage());
+            return false;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Session end (submit / timeout / quit / replaced)
+    // ---------------------------------------------------------------------
+
+    private void end(UUID owner) {
+        if (owner == null) return;
+        Session s = sessions.remove(owner);
+        if (s != null) finish(s);
+    }
+
+    // only if this exact session is still the current one
+    private void end(UUID owner, Session s) {
+        if (sessions.remove(owner, s)) finish(s);
+    }
+
+    private void finish(Session s) {
+        Sched.Task t = s.timeout;
+        if (t != null) t.cancel();
+        restore(s);
+    }
+
+    private void restore(Session s) {
+        Location loc = s.location();
+
+        if (s.virtual) {
+            // Nothing changed server-side; just show the player the real block again
+            Player p = Bukkit.getPlayer(s.owner);
+            if (p == null || !p.isOnline() || s.originalData == null) return;
+            try { p.sendBlockChange(loc, s.originalData); } catch (Throwable ignored) {}
+            return;
+        }
+
+        Runnable put = () -> {
+            try {
+                Block b = loc.getBlock();
+                b.setType(s.originalType, false);
+                try {
+                    if (s.originalData != null) b.setBlockData(s.originalData, false);
+                } catch (Throwable ignored) {}
+            } catch (Throwable ignored) {}
+        };
+
+        // Region-safe restore. Once disabled the scheduler refuses our tasks, but the sign
+        // still has to go: onDisable runs while the server is stopping, so put it back right here.
+        if (plugin.isEnabled()) Sched.runAt(loc, put);
+        else put.run();
+    }
+
+    // May be called from the ProtocolLib netty thread: only claim the session there,
+    // restore + cancel the timeout on the player's thread
+    private void submit(Player p, Session s, String[] lines) {
+        if (!sessions.remove(s.owner, s)) return;
+        Sched.run(p, () -> {
+            finish(s);
+            if (!p.isOnline()) return;
+            try {
+                s.onSubmit.accept(p, lines);
+            } catch (Throwable t) {
+                plugin.getLogger().warning("Sign prompt handler failed: " + t.getMessage());
+            }
+        });
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onSignChange(SignChangeEvent e) {
+        Player p = e.getPlayer();
+        if (p == null) return;
+
+        Session s = sessions.get(p.getUniqueId());
+        if (s == null || s.virtual) return;
+
+        // Make sure it's OUR temporary sign
+        Block b = e.getBlock();
+        if (!s.at(b.getWorld(), b.getX(), b.getY(), b.getZ())) return;
+
+        String[] lines = new String[4];
+        for (int i = 0; i < 4; i++) lines[i] = safeSignLine(e, i);
+        submit(p, s, lines);
+    }
+
+    // Paper UncheckedSignChangeEvent (virtual signs); read reflectively, fires once per submit
+    private void onUncheckedSignChange(Event e) {
+        try {
+            Player p = (Player) e.getClass().getMethod("getPlayer").invoke(e);
+            if (p == null) return;
+
+            Session s = sessions.get(p.getUniqueId());
+            if (s == null || !s.virtual) return;
+
+            Object pos = e.getClass().getMethod("getEditedBlockPosition").invoke(e);
+            int bx = ((Number) pos.getClass().getMethod("blockX").invoke(pos)).intValue();
+            int by = ((Number) pos.getClass().getMethod("blockY").invoke(pos)).intValue();
+            int bz = ((Number) pos.getClass().getMethod("blockZ").invoke(pos)).intValue();
+            if (!s.at(p.getWorld(), bx, by, bz)) return;
+
+            String[] lines = new String[]{"", "", "", ""};
+            Object raw = e.getClass().getMethod("lines").invoke(e);
+            if (raw instanceof List<?> list) {
+                for (int i = 0; i < 4 && i < list.size(); i++) {
+                    if (list.get(i) instanceof Component c) lines[i] = AMP.serialize(c);
+                }
+            }
+            submit(p, s, lines);
+        } catch (Throwable t) {
+            if (config.debug()) plugin.getLogger().warning("Could not read virtual sign edit: " + t.getMessage());
+        }
+    }
+
+    // ProtocolLib UPDATE_SIGN (netty thread)
+    private boolean onPacketSignEdit(Player p, int x, int y, int z, String[] raw) {
+        Session s = sessions.get(p.getUniqueId());
+        if (s == null || !s.virtual || !s.at(p.getWorld(), x, y, z)) return false;
+
+        String[] lines = new String[]{"", "", "", ""};
+        for (int i = 0; i < 4 && i < raw.length; i++) lines[i] = (raw[i] == null) ? "" : raw[i];
+        submit(p, s, lines);
+        return true;
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent e) {
+        end(e.getPlayer().getUniqueId());
+    }
+
+    // ---------------------------------------------------------------------
+    // Spot finding (no Location/Block allocation per probe)
+    // ---------------------------------------------------------------------
+
+    private static Location findSpot(Location playerLoc) {
+        if (playerLoc == null || playerLoc.getWorld() == null) return null;
+
+        final World w = playerLoc.getWorld();
+        final int px = playerLoc.getBlockX();
+        final int py = playerLoc.getBlockY();
+        final int pz = playerLoc.getBlockZ();
+        final int minY = w.getMinHeight();
+        final int maxY = w.getMaxHeight() - 1;
+
+        // try y+2..y+5 above player, same x/z
+        for (int dy = 2; dy <= 5; dy++) {
+            if (isFree(w, px, py + dy, pz, minY, maxY)) return new Location(w, px, py + dy, pz);
+        }
+
+        // try a small ring around (in case above is blocked)
+        for (int dy = 2; dy <= 5; dy++) {
+            for (int dx = -2; dx <= 2; dx++) {
+                for (int dz = -2; dz <= 2; dz++) {
+                    if (dx == 0 && dz == 0) continue;
+                    int x = px + dx, y = py + dy, z = pz + dz;
+                    if (isFree(w, x, y, z, minY, maxY)) return new Location(w, x, y, z);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isFree(World w, int x, int y, int z, int minY, int maxY) {
+        if (y < minY || y > maxY) return false;
+        if (!w.isChunkLoaded(x >> 4, z >> 4)) return false;
+        return w.getType(x, y, z).isAir();
+    }
+
+    // ---------------------------------------------------------------------
+    // Sign text (best-effort across Bukkit versions)
+    // ---------------------------------------------------------------------
+
+    private static String[] plainLines(String[] lines) {
+        String[] out = new String[4];
+        for (int i = 0; i < 4; i++) {
+            out[i] = stripLegacyColor((lines != null && i < lines.length) ? lines[i] : "");
+        }
+        return out;
+    }
+
+    // ✅ Writes to FRONT (mirrors BACK when possible) without unchecked Enum warnings
+    private static void setSignLinesBestEffort(Sign sign, String[] plain) {
+        if (sign == null) return;
+
+        // --- Modern (1.20+): set FRONT (and BACK) sign sides explicitly ---
+        try {
+            Class<?> sideClass = Class.forName("org.bukkit.block.sign.Side");
+
+            Object front = null;
+            Object back = null;
+
+            Object[] constants = sideClass.getEnumConstants();
+            if (constants != null) {
+                for (Object c : constants) {
+                    if (c instanceof Enum<?> en) {
+                        String n = en.name();
+                        if ("FRONT".equals(n)) front = c;
+                        else if ("BACK".equals(n)) back = c;
+                    }
+                }
+            }
+            if (front == null) throw new IllegalStateException("Side.FRONT not found");
+
+            Method getSide = sign.getClass().getMethod("getSide", sideClass);
+            Object frontSide = getSide.invoke(sign, front);
+            Object backSide = (back != null) ? getSide.invoke(sign, back) : null;
+
+            Method lineMethod = frontSide.getClass().getMethod("line", int.class, Component.class);
+
+            for (int i = 0; i < 4; i++) {
+                Component c = AMP.deserialize(plain[i]).decoration(TextDecoration.ITALIC, false);
+
+                lineMethod.invoke(frontSide, i, c);
+                if (backSide != null) {
+                    try { lineMethod.invoke(backSide, i, c); } catch (Throwable ignored) {}
+                }
+            }
+            return;
+
+        } catch (Throwable ignored) {
+            // fall back below
+        }
+
+        // --- Older Bukkit: setLine(int, String) ---
+        try {
+            Method setLine = sign.getClass().getMethod("setLine", int.class, String.class);
+            for (int i = 0; i < 4; i++) setLine.invoke(sign, i, plain[i]);
+        } catch (Throwable ignored) {}
+    }
+
+    private static void openSignEditorBestEffort(Player p, Sign sign) {
+        try {
+            Method m = p.getClass().getMethod("openSign", Sign.class);
+            m.invoke(p, sign);
+            return;
+        } catch (Throwable ignored) {}
+
+        try {
+            Method m = p.getClass().getMethod("openSign", Sign.class, boolean.class);
+            m.invoke(p, sign, true);
+        } catch (Throwable ignored) {}
+    }
+
+    private static String safeSignLine(SignChangeEvent e, int idx) {
+        try {
+            Method m = e.getClass().getMethod("line", int.class);
+            Object out = m.invoke(e, idx);
+            if (out instanceof Component c) {
+                return AMP.serialize(c);
+            }
+        } catch (Throwable ignored) {}
+
+        try {
+            Method m2 = e.getClass().getMethod("getLine", int.class);
+            Object out2 = m2.invoke(e, idx);
+            if (out2 instanceof String s) return s;
+        } catch (Throwable ignored) {}
+
+        return "";
+    }
+
+    private static String stripLegacyColor(String s) {
+        if (s == null) return "";
+        return s.replaceAll("(?i)§[0-9A-FK-OR]", "").replaceAll("(?i)&[0-9A-FK-OR]", "");
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single name/lore line split into literal and placeholder segments.
+ *
+ * Lines are compiled once per config load; rendering is a single StringBuilder pass
+ * that resolves placeholders by index (see {@link Values}) instead of looping over a map.
+ */
+public final class TextTemplate {
+
+    /**
+     * Every placeholder the menus know how to fill in.
+     * Tokens that aren't listed here are kept as literal text.
+     */
+    public enum Key {
+        PLAYER("%player%"),
+
+        PAGE("%page%"),
+        PAGES("%pages%"),
+        PREV_PAGE("%prev_page%"),
+        NEXT_PAGE("%next_page%"),
+        PER_PAGE("%per_page%"),
+
+        HOME("%home%"),
+        HOME_NAME("%home_name%"),
+        MAX_HOMES("%max_homes%"),
+        HOME_WORLD("%home_world%"),
+        HOME_SERVER("%home_server%"),
+        HOME_DIMENSION("%home_dimension%"),
+        HOME_X("%home_x%"),
+        HOME_Y("%home_y%"),
+        HOME_Z("%home_z%"),
+        HOME_COORDS("%home_coords%"),
+
+        WARP_NAME("%warp_name%"),
+        WARP_DESCRIPTION("%warp_description%"),
+        WARP_SERVER("%warp_server%"),
+        WARP_WORLD("%warp_world%"),
+        WARP_DIMENSION("%warp_dimension%"),
+        WARP_COORDS("%warp_coords%"),
+        WARP_PERMISSION("%warp_permission%"),
+        WARP_CATEGORY("%warp_category%"),
+        TOTAL_WARPS("%total_warps%"),
+
+        SENDER("%sender%"),
+        DIMENSION_NAME("%dimension_name%"),
+        REGION("%region%");
+
+        private static final Key[] ALL = values();
+        private static final Map<String, Key> BY_TOKEN = new HashMap<>();
+
+        static {
+            for (Key k : ALL) BY_TOKEN.put(k.token, k);
+        }
+
+        private final String token;
+
+        Key(String token) {
+            this.token = token;
+        }
+
+        public String token() { return token; }
+
+        public static Key byToken(String token) {
+            return token == null ? null : BY_TOKEN.get(token);
+        }
+    }
+
+    /**
+     * Placeholder values indexed by {@link Key#ordinal()}.
+     * Unset keys render as their raw token (same as a missing map entry used to).
+     * Instances are cheap and meant to be reused across a render loop via {@link #clear()}.
+     */
+    public static final class Values {
+        private final String[] values = new String[Key.ALL.length];
+
+        public Values set(Key key, String value) {
+            if (key != null) values[key.ordinal()] = (value == null) ? "" : value;
+            return this;
+        }
+
+        public String get(Key key) {
+            return key == null ? null : values[key.ordinal()];
+        }
+
+        public Values clear() {
+            Arrays.fill(values, null);
+            return this;
+        }
+    }
+
+    private static final TextTemplate EMPTY = new TextTemplate("", new String[0], new int[0]);
+
+    private final String raw;
+
+    // Parallel arrays: keys[i] == -1 -> literals[i] is text, otherwise keys[i] is a Key ordinal
+    private final String[] literals;
+    private final int[] keys;
+    private final boolean isStatic;
+
+    private TextTemplate(String raw, String[] literals, int[] keys) {
+        this.raw = raw;
+        this.literals = literals;
+        this.keys = keys;
+
+        boolean st = true;
+        for (int k : keys) if (k >= 0) { st = false; break; }
+        this.isStatic = st;
+    }
+
+    public static TextTemplate compile(String raw) {
+        if (raw == null || raw.isEmpty()) return EMPTY;
+
+        List<String> lits = new ArrayList<>();
+        List<Integer> ks = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        final int len = raw.length();
+
+        while (i < len) {
+            char c = raw.charAt(i);
+            if (c == '%') {
+                int end = raw.indexOf('%', i + 1);
+                if (end > i) {
+                    Key key = Key.byToken(raw.substring(i, end + 1));
+                    if (key != null) {
+                        if (literal.length() > 0) {
+                            lits.add(literal.toString());
+                            ks.add(-1);
+                            literal.setLength(0);
+                        }
+                        lits.add(null);
+                        ks.add(key.ordinal());
+                        i = end + 1;
+                        continue;
+                    }
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+
+        if (literal.length() > 0) {
+            lits.add(literal.toString());
+            ks.add(-1);
+        }
+
+        int[] keyArr = new int[ks.size()];
+        for (int k = 0; k < keyArr.length; k++) keyArr[k] = ks.get(k);
+
+        return new TextTemplate(raw, lits.toArray(new String[0]), keyArr);
+    }
+
+    public static List<TextTemplate> compileAll(List<String> lines) {
+        if (lines == null || lines.isEmpty()) return List.of();
+        List<TextTemplate> out = new ArrayList<>(lines.size());
+        for (String line : lines) out.add(compile(line));
+        return List.copyOf(out);
+    }
+
+    public String raw() { return raw; }
+
+    /** True if the line contains no known placeholders (renders to {@link #raw()} every time). */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /** Adds every placeholder this line uses to {@code into}. */
+    public void collectKeys(EnumSet<Key> into) {
+        for (int k : keys) if (k >= 0) into.add(Key.ALL[k]);
+    }
+
+    /** Same as {@code render(values).isBlank()} without building the string. */
+    public boolean isBlank(Values values) {
+        for (int i = 0; i < keys.length; i++) {
+            int k = keys[i];
+            String part = (k < 0) ? literals[i] : (values == null ? null : values.values[k]);
+            if (part == null) part = Key.ALL[k].token;
+            if (!part.isBlank()) return false;
+        }
+        return true;
+    }
+
+    public String render(Values values) {
+        if (keys.length == 0) return raw;
+        if (keys.length == 1 && keys[0] < 0) return literals[0];
+
+        StringBuilder sb = new StringBuilder(raw.length() + 16);
+        for (int i = 0; i < keys.length; i++) {
+            int k = keys[i];
+            if (k < 0) {
+                sb.append(literals[i]);
+                continue;
+            }
+
+            String v = (values == null) ? null : values.values[k];
+            sb.append(v != null ? v : Key.ALL[k].token);
+        }
+        return sb.toString();
+    }
+}
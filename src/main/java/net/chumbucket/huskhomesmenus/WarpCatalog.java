@@ -0,0 +1,389 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import net.william278.huskhomes.api.HuskHomesAPI;
+import net.william278.huskhomes.event.DeleteAllWarpsEvent;
+import net.william278.huskhomes.event.WarpCreateEvent;
+import net.william278.huskhomes.event.WarpDeleteEvent;
+import net.william278.huskhomes.event.WarpEditEvent;
+import net.william278.huskhomes.position.Warp;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.nio.charset.StandardCharsets;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Server-wide warp list, shared by every viewer of the warps menu.
+ *
+ * Holds an immutable, pre-sorted {@link Snapshot} with a version number that goes up on every
+ * reload. Snapshots are reloaded when HuskHomes fires a warp create/delete/edit event (and again
+ * a moment later) or after a TTL; see {@link HuskHomesRefresh}.
+ */
+public final class WarpCatalog implements Listener {
+
+    // "[Shops] Buy and sell here" -> Shops
+    private static final Pattern DESCRIPTION_CATEGORY = Pattern.compile("^\\s*\\[([^\\]]{1,32})\\]");
+
+    private final JavaPlugin plugin;
+    private final HHMConfig config;
+    private final long ttlMs;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    // world name -> dimension label, for worlds on this server. Refreshed on the main thread so a
+    // snapshot build (on whatever thread HuskHomes completes on) never touches Bukkit.
+    private volatile Map<String, String> worldDimensions = Map.of();
+
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+    private volatile CompletableFuture<Snapshot> loading;
+
+    /**
+     * One warp, with the fields every render needs extracted once per snapshot.
+     * {@code index} is its position in {@link Snapshot#entries()}; {@code dimension} is "" when the
+     * warp's world isn't on this server.
+     */
+    public record Entry(int index, UUID id, String name, String description, String category,
+                        String permission, String dimension, Warp warp) {}
+
+    // Sort keys, computed once per warp per build (never per comparison)
+    private record Keyed(Entry entry, CollationKey nameKey, String group, int weight) {}
+
+    /**
+     * Immutable, sorted view of every warp at one point in time.
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final long loadedAtMs;
+        private final List<Entry> entries;
+        private final Map<UUID, Entry> byId;
+        private final List<String> categories;
+        private final Map<String, List<Entry>> byCategory;
+        private volatile WarpSearchIndex searchIndex;
+
+        private Snapshot(long version, long loadedAtMs, List<Entry> entries) {
+            this.version = version;
+            this.loadedAtMs = loadedAtMs;
+            this.entries = entries;
+
+            Map<UUID, Entry> ids = new HashMap<>(entries.size() * 2);
+            for (Entry e : entries) ids.put(e.id(), e);
+            this.byId = Collections.unmodifiableMap(ids);
+
+            // category (lowercase) -> its warps, in display order; names keep their first spelling
+            Map<String, List<Entry>> cats = new HashMap<>();
+            Map<String, String> names = new HashMap<>();
+            for (Entry e : entries) {
+                if (e.category().isEmpty()) continue;
+                String key = e.category().toLowerCase(Locale.ROOT);
+                names.putIfAbsent(key, e.category());
+                cats.computeIfAbsent(key, k -> new ArrayList<>()).add(e);
+            }
+            cats.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            this.byCategory = cats;
+
+            List<String> sortedNames = new ArrayList<>(names.values());
+            sortedNames.sort(String.CASE_INSENSITIVE_ORDER);
+            this.categories = Collections.unmodifiableList(sortedNames);
+        }
+
+        public long version() { return version; }
+        public long loadedAtMs() { return loadedAtMs; }
+
+        /** All warps, in the configured display order (menus.warps.sort). */
+        public List<Entry> entries() { return entries; }
+
+        public int size() { return entries.size(); }
+
+        /** Null if the warp isn't in this snapshot (e.g. deleted since). */
+        public Entry byId(UUID id) { return id == null ? null : byId.get(id); }
+
+        /** Category names in use, A-Z. */
+        public List<String> categories() { return categories; }
+
+        /** Warps in a category (case-insensitive), in display order. */
+        public List<Entry> inCategory(String category) {
+            if (category == null) return List.of();
+            return byCategory.getOrDefault(category.toLowerCase(Locale.ROOT), List.of());
+        }
+
+        /**
+         * Warps whose name or description contains the query, in display order.
+         * The index is built on the first search against this snapshot.
+         */
+        public List<Entry> search(String query) {
+            WarpSearchIndex idx = searchIndex;
+            if (idx == null) {
+                synchronized (this) {
+                    idx = searchIndex;
+                    if (idx == null) searchIndex = idx = new WarpSearchIndex(entries);
+                }
+            }
+            return idx.search(query);
+        }
+    }
+
+    public WarpCatalog(JavaPlugin plugin, HHMConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+        this.ttlMs = HuskHomesRefresh.ttlMs(config);
+    }
+
+    /**
+     * Hooks HuskHomes warp events and starts the first load.
+     */
+    public void register() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        refreshWorlds(null);
+        current();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWarpCreate(WarpCreateEvent e) {
+        invalidateSoon();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWarpDelete(WarpDeleteEvent e) {
+        invalidateSoon();
+    }
+
+    // rename, move, description
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWarpEdit(WarpEditEvent e) {
+        invalidateSoon();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDeleteAllWarps(DeleteAllWarpsEvent e) {
+        invalidateSoon();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent e) {
+        refreshWorlds(null);
+        invalidate();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent e) {
+        // still listed by getWorlds() while this fires
+        refreshWorlds(e.getWorld());
+        invalidate();
+    }
+
+    public void clear() {
+        snapshot = null;
+        stale = true;
+    }
+
+    // ---------------------------------------------------------------------
+    // Reads
+    // ---------------------------------------------------------------------
+
+    /**
+     * Latest loaded snapshot (possibly stale), or null before the first load finishes.
+     * Never blocks; starts a reload in the background if it's due.
+     */
+    public Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null || isDue(s)) current();
+        return s;
+    }
+
+    /**
+     * A fresh snapshot: completes immediately when the current one is still valid, otherwise
+     * loads once from HuskHomes (concurrent callers share the same load).
+     */
+    public synchronized CompletableFuture<Snapshot> current() {
+        Snapshot s = snapshot;
+        if (s != null && !isDue(s)) return CompletableFuture.completedFuture(s);
+
+        CompletableFuture<Snapshot> inFlight = loading;
+        if (inFlight != null && !inFlight.isDone()) return inFlight;
+
+        final HuskHomesAPI api;
+        try {
+            api = HuskHomesAPI.getInstance();
+        } catch (Throwable t) {
+            return (s != null) ? CompletableFuture.completedFuture(s) : CompletableFuture.failedFuture(t);
+        }
+
+        stale = false;
+        final CompletableFuture<Snapshot> load = new CompletableFuture<>();
+        loading = load;
+
+        api.getWarps().whenComplete((warps, err) -> {
+            if (err != null) {
+                stale = true;
+                if (config.debug()) plugin.getLogger().warning("WarpCatalog failed to load warps: " + err.getMessage());
+
+                // keep serving the old list if we have one
+                Snapshot old = snapshot;
+                if (old != null) load.complete(old);
+                else load.completeExceptionally(err);
+                return;
+            }
+
+            Snapshot fresh = build(warps);
+            snapshot = fresh;
+            load.complete(fresh);
+        });
+
+        return load;
+    }
+
+    // ---------------------------------------------------------------------
+    // Invalidation
+    // ---------------------------------------------------------------------
+
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Reload now and again after HuskHomes has persisted the change.
+     */
+    public void invalidateSoon() {
+        invalidate();
+        Sched.laterGlobal(HuskHomesRefresh.REFRESH_DELAY_TICKS, () -> {
+            invalidate();
+            current();
+        });
+    }
+
+    private boolean isDue(Snapshot s) {
+        return stale || (System.currentTimeMillis() - s.loadedAtMs()) >= ttlMs;
+    }
+
+    // ---------------------------------------------------------------------
+    // Build
+    // ---------------------------------------------------------------------
+
+    private Snapshot build(List<Warp> warps) {
+        final String mode = config.warpsSortMode();
+
+        // case-insensitive, locale-aware; SECONDARY keeps accented names apart
+        final Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.SECONDARY);
+
+        final Map<String, String> dimensions = worldDimensions;
+
+        List<Keyed> keyed = new ArrayList<>(warps == null ? 0 : warps.size());
+        if (warps != null) {
+            for (Warp w : warps) {
+                if (w == null) continue;
+                String name = w.getName();
+                if (name == null || name.isBlank()) continue;
+
+                String description = (w.getDescription() == null) ? "" : w.getDescription();
+                String category = category(name, description);
+                Entry e = new Entry(0, warpId(w, name), name, description, category,
+                        "huskhomes.warp." + name.toLowerCase(Locale.ROOT),
+                        dimensions.getOrDefault(PositionAccessor.world(w), ""), w);
+
+                String group = switch (mode) {
+                    case "SERVER" -> PositionAccessor.server(w).toLowerCase(Locale.ROOT);
+                    case "CATEGORY" -> category.toLowerCase(Locale.ROOT);
+                    default -> "";
+                };
+                int weight = "WEIGHT".equals(mode) ? config.warpSortWeight(name) : 0;
+
+                keyed.add(new Keyed(e, collator.getCollationKey(name), group, weight));
+            }
+        }
+
+        keyed.sort(comparator(mode));
+
+        List<Entry> indexed = new ArrayList<>(keyed.size());
+        for (int i = 0; i < keyed.size(); i++) {
+            Entry e = keyed.get(i).entry();
+            indexed.add(new Entry(i, e.id(), e.name(), e.description(), e.category(), e.permission(),
+                    e.dimension(), e.warp()));
+        }
+
+        return new Snapshot(versions.incrementAndGet(), System.currentTimeMillis(), Collections.unmodifiableList(indexed));
+    }
+
+    private static Comparator<Keyed> comparator(String mode) {
+        Comparator<Keyed> byName = Comparator.comparing(Keyed::nameKey);
+        // stable across reloads even for names that collate equal
+        Comparator<Keyed> tail = byName.thenComparing(k -> k.entry().id());
+
+        return switch (mode) {
+            case "NAME_DESC" -> byName.reversed().thenComparing(k -> k.entry().id());
+            // ungrouped warps ("") go last
+            case "SERVER", "CATEGORY" -> Comparator.<Keyed, Boolean>comparing(k -> k.group().isEmpty())
+                    .thenComparing(Keyed::group)
+                    .thenComparing(tail);
+            // heavier first
+            case "WEIGHT" -> Comparator.comparingInt(Keyed::weight).reversed().thenComparing(tail);
+            default -> tail;
+        };
+    }
+
+    // Main thread (enable/reload, world load/unload)
+    private void refreshWorlds(World unloading) {
+        Map<String, String> out = new HashMap<>();
+        try {
+            for (World w : Bukkit.getWorlds()) {
+                if (w == null || w == unloading) continue;
+                out.put(w.getName(), switch (w.getEnvironment()) {
+                    case NETHER -> "Nether";
+                    case THE_END -> "The End";
+                    default -> "Overworld";
+                });
+            }
+        } catch (Throwable ignored) {}
+        worldDimensions = Map.copyOf(out);
+    }
+
+    // warp_overrides.<warp>.category, else a leading "[Category]" tag in the description
+    private String category(String name, String description) {
+        String c = config.warpCategory(name);
+        if (!c.isEmpty()) return c;
+
+        Matcher m = DESCRIPTION_CATEGORY.matcher(description.replaceAll("(?i)[§&][0-9A-FK-OR]", ""));
+        return m.find() ? m.group(1).trim() : "";
+    }
+
+    // ---------------------------------------------------------------------
+    // Warp fields
+    // ---------------------------------------------------------------------
+
+    // HuskHomes warps have a UUID; fall back to one derived from the name
+    private static UUID warpId(Warp w, String name) {
+        UUID id = w.getUuid();
+        if (id != null) return id;
+        return UUID.nameUUIDFromBytes(("warp:" + name.toLowerCase(Locale.ROOT)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player favourite and recently used warps.
+ *
+ * Stored in the player's PDC (same as {@link ToggleManager}) as packed 16-byte warp UUIDs, and
+ * kept in memory while they're online. Loaded lazily on the player's thread the first time the
+ * warps menu needs it; writes go back on the player's thread.
+ */
+public final class WarpFavourites implements Listener {
+
+    private final NamespacedKey keyFavourites;
+    private final NamespacedKey keyRecent;
+
+    private final int maxFavourites;
+    private final int maxRecent;
+
+    // copy-on-write per player; favourites oldest first, recent newest first
+    private record State(UUID[] favourites, UUID[] recent) {}
+
+    private final Map<UUID, State> byPlayer = new ConcurrentHashMap<>();
+
+    public WarpFavourites(JavaPlugin plugin, HHMConfig config) {
+        this.keyFavourites = new NamespacedKey(plugin, "warp_favourites");
+        this.keyRecent = new NamespacedKey(plugin, "warp_recent");
+        this.maxFavourites = config.warpsFavouritesMax();
+        this.maxRecent = config.warpsRecentMax();
+    }
+
+    // -------------------------
+    // Reads (player's thread)
+    // -------------------------
+
+    public boolean isEmpty(Player p) {
+        State s = state(p);
+        return s.favourites.length == 0 && s.recent.length == 0;
+    }
+
+    /**
+     * Favourites (in the order they were added), then recent warps that aren't favourites,
+     * resolved against the snapshot. Warps deleted since are skipped.
+     */
+    public List<WarpCatalog.Entry> view(Player p, WarpCatalog.Snapshot snap) {
+        State s = state(p);
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (UUID id : s.favourites) ids.add(id);
+        for (UUID id : s.recent) ids.add(id);
+
+        List<WarpCatalog.Entry> out = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            WarpCatalog.Entry e = snap.byId(id);
+            if (e != null) out.add(e);
+        }
+        return out;
+    }
+
+    // -------------------------
+    // Writes (player's thread)
+    // -------------------------
+
+    /**
+     * Adds or removes a favourite. Returns true if it's now a favourite.
+     */
+    public boolean toggleFavourite(Player p, UUID warp) {
+        if (maxFavourites <= 0) return false;
+        State s = state(p);
+        List<UUID> favs = new ArrayList<>(List.of(s.favourites));
+        boolean added = !favs.remove(warp);
+        if (added) {
+            favs.add(warp);
+            while (favs.size() > maxFavourites) favs.remove(0);
+        }
+
+        UUID[] next = favs.toArray(new UUID[0]);
+        byPlayer.put(p.getUniqueId(), new State(next, s.recent));
+        write(p, keyFavourites, next);
+        return added;
+    }
+
+    public void recordUse(Player p, UUID warp) {
+        if (maxRecent <= 0) return;
+        State s = state(p);
+        if (s.recent.length > 0 && s.recent[0].equals(warp)) return;
+
+        List<UUID> recent = new ArrayList<>(s.recent.length + 1);
+        recent.add(warp);
+        for (UUID id : s.recent) {
+            if (recent.size() >= maxRecent) break;
+            if (!id.equals(warp)) recent.add(id);
+        }
+
+        UUID[] next = recent.toArray(new UUID[0]);
+        byPlayer.put(p.getUniqueId(), new State(s.favourites, next));
+        write(p, keyRecent, next);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        byPlayer.remove(e.getPlayer().getUniqueId());
+    }
+
+    // -------------------------
+    // PDC
+    // -------------------------
+
+    private State state(Player p) {
+        return byPlayer.computeIfAbsent(p.getUniqueId(), u -> {
+            // the limits may have been lowered since these were saved
+            UUID[] favs = read(p, keyFavourites);
+            UUID[] recent = read(p, keyRecent);
+            return new State(
+                    Arrays.copyOfRange(favs, Math.max(0, favs.length - maxFavourites), favs.length),
+                    Arrays.copyOf(recent, Math.min(recent.length, Math.max(0, maxRecent)))
+            );
+        });
+    }
+
+    private static UUID[] read(Player p, NamespacedKey key) {
+        try {
+            byte[] raw = p.getPersistentDataContainer().get(key, PersistentDataType.BYTE_ARRAY);
+            if (raw == null) return new UUID[0];
+
+            ByteBuffer buf = ByteBuffer.wrap(raw);
+            int n = raw.length / 16;
+            UUID[] out = new UUID[n];
+            for (int i = 0; i < n; i++) out[i] = new UUID(buf.getLong(), buf.getLong());
+            return out;
+        } catch (Throwable ignored) {
+            return new UUID[0];
+        }
+    }
+
+    private static void write(Player p, NamespacedKey key, UUID[] ids) {
+        ByteBuffer buf = ByteBuffer.allocate(ids.length * 16);
+        for (UUID id : ids) buf.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        byte[] raw = buf.array();
+
+        Sched.run(p, () -> {
+            try {
+                p.getPersistentDataContainer().set(key, PersistentDataType.BYTE_ARRAY, raw);
+            } catch (Throwable ignored) {}
+        });
+    }
+}
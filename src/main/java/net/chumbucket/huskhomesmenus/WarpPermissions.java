@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which warps each player may use, as a {@link BitSet} over {@link WarpCatalog.Entry#index()}.
+ *
+ * Computed once per player per catalog snapshot on the player's thread (hasPermission isn't
+ * thread-safe on Folia), then every visibility/click check is a bit test. Dropped when LuckPerms
+ * recalculates the player's permissions, when the catalog version changes, or after a short TTL
+ * when LuckPerms isn't installed (see {@link PermissionRefresh}).
+ */
+public final class WarpPermissions implements Listener {
+
+    private static final String WILDCARD = "huskhomes.warp.*";
+
+    private final ConcurrentHashMap<UUID, Access> byPlayer = new ConcurrentHashMap<>();
+
+    private final long ttlMs;
+
+    /**
+     * One player's view of one snapshot.
+     *
+     * If the player has no per-warp node at all, every warp is usable (servers that don't use
+     * per-warp permissions); otherwise only the warps whose bit is set.
+     */
+    public static final class Access {
+        private final long catalogVersion;
+        private final long computedAtMs;
+        private final BitSet usable;
+        private final boolean perWarp;
+
+        private Access(long catalogVersion, long computedAtMs, BitSet usable) {
+            this.catalogVersion = catalogVersion;
+            this.computedAtMs = computedAtMs;
+            this.usable = usable;
+            this.perWarp = !usable.isEmpty();
+        }
+
+        /** True if the player has any per-warp node (or the wildcard), i.e. only permitted warps are shown. */
+        public boolean perWarp() { return perWarp; }
+
+        public boolean canUse(WarpCatalog.Entry e) {
+            return e != null && (!perWarp || usable.get(e.index()));
+        }
+    }
+
+    public WarpPermissions(PermissionRefresh permissionRefresh) {
+        this.ttlMs = permissionRefresh.ttlMs();
+        permissionRefresh.subscribe(this::onPermissionsRecalculated);
+    }
+
+    public void shutdown() {
+        byPlayer.clear();
+    }
+
+    /**
+     * The player's access for this snapshot. Must be called on the player's thread
+     * (runs hasPermission once per warp on a cache miss).
+     */
+    public Access access(Player p, WarpCatalog.Snapshot snap) {
+        final long now = System.currentTimeMillis();
+        Access cached = byPlayer.get(p.getUniqueId());
+        if (cached != null
+                && cached.catalogVersion == snap.version()
+                && (now - cached.computedAtMs) < ttlMs) {
+            return cached;
+        }
+
+        Access fresh = new Access(snap.version(), now, compute(p, snap.entries()));
+        byPlayer.put(p.getUniqueId(), fresh);
+        return fresh;
+    }
+
+    private static BitSet compute(Player p, List<WarpCatalog.Entry> entries) {
+        BitSet bits = new BitSet(entries.size());
+        if (p.hasPermission(WILDCARD)) {
+            bits.set(0, entries.size());
+            return bits;
+        }
+        for (WarpCatalog.Entry e : entries) {
+            if (p.hasPermission(e.permission())) bits.set(e.index());
+        }
+        return bits;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        byPlayer.remove(e.getPlayer().getUniqueId());
+    }
+
+    // LuckPerms thread: just drop it; the next open recomputes on the player's thread
+    private void onPermissionsRecalculated(UUID uuid) {
+        if (uuid != null) byPlayer.remove(uuid);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2025 Sorekill
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+
+package net.chumbucket.huskhomesmenus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Search over one {@link WarpCatalog.Snapshot}: warp names and descriptions, case-insensitive.
+ *
+ * Queries of 3+ characters go through a trigram index (substring match anywhere in the name or
+ * description); shorter ones are a binary-searched name prefix. Results keep the snapshot's
+ * display order and are memoized per query, so paging through them never rescans.
+ *
+ * Immutable once built; safe to share between threads.
+ */
+final class WarpSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int MAX_CACHED_QUERIES = 128;
+
+    private final List<WarpCatalog.Entry> entries;
+
+    // by entry index: "name\ndescription", normalized
+    private final String[] haystacks;
+
+    // normalized names in lexical order, and the entry index of each
+    private final String[] sortedNames;
+    private final int[] sortedNameIndex;
+
+    // trigram -> ascending entry indexes
+    private final Map<String, int[]> postings;
+
+    private final Map<String, List<WarpCatalog.Entry>> results = new ConcurrentHashMap<>();
+
+    WarpSearchIndex(List<WarpCatalog.Entry> entries) {
+        this.entries = entries;
+
+        final int n = entries.size();
+        this.haystacks = new String[n];
+
+        Integer[] order = new Integer[n];
+        String[] names = new String[n];
+        Map<String, IntList> grams = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < n; i++) {
+            WarpCatalog.Entry e = entries.get(i);
+            names[i] = normalize(e.name());
+            haystacks[i] = names[i] + "\n" + normalize(e.description());
+            order[i] = i;
+
+            // entries are visited in index order, so every posting list comes out sorted
+            seen.clear();
+            String h = haystacks[i];
+            for (int j = 0; j + GRAM <= h.length(); j++) {
+                String g = h.substring(j, j + GRAM);
+                if (g.indexOf('\n') >= 0 || !seen.add(g)) continue;
+                grams.computeIfAbsent(g, k -> new IntList()).add(i);
+            }
+        }
+
+        Arrays.sort(order, (a, b) -> names[a].compareTo(names[b]));
+        this.sortedNames = new String[n];
+        this.sortedNameIndex = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedNames[i] = names[order[i]];
+            sortedNameIndex[i] = order[i];
+        }
+
+        Map<String, int[]> frozen = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<String, IntList> g : grams.entrySet()) frozen.put(g.getKey(), g.getValue().toArray());
+        this.postings = frozen;
+    }
+
+    /**
+     * Entries matching the query, in snapshot order. A blank query matches everything.
+     */
+    List<WarpCatalog.Entry> search(String query) {
+        String q = normalize(query);
+        if (q.isEmpty()) return entries;
+
+        List<WarpCatalog.Entry> cached = results.get(q);
+        if (cached != null) return cached;
+
+        List<WarpCatalog.Entry> found = Collections.unmodifiableList(toEntries(
+                q.length() < GRAM ? namePrefix(q) : substring(q)));
+
+        if (results.size() >= MAX_CACHED_QUERIES) results.clear();
+        results.put(q, found);
+        return found;
+    }
+
+    /**
+     * Lowercase, colour codes stripped, whitespace collapsed (the form both sides are compared in).
+     */
+    static String normalize(String s) {
+        if (s == null) return "";
+        String out = s.replaceAll("(?i)[§&][0-9A-FK-OR]", "")
+                .trim()
+                .replaceAll("\\s+", " ");
+        return out.toLowerCase(Locale.ROOT);
+    }
+
+    // ---------------------------------------------------------------------
+    // Lookups
+    // ---------------------------------------------------------------------
+
+    private int[] namePrefix(String q) {
+        int from = lowerBound(q);
+        int to = from;
+        while (to < sortedNames.length && sortedNames[to].startsWith(q)) to++;
+
+        int[] hits = Arrays.copyOfRange(sortedNameIndex, from, to);
+        Arrays.sort(hits);
+        return hits;
+    }
+
+    private int lowerBound(String q) {
+        int lo = 0, hi = sortedNames.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedNames[mid].compareTo(q) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int[] substring(String q) {
+        // every trigram of the query must be present; start from the rarest
+        List<int[]> lists = new ArrayList<>();
+        for (int j = 0; j + GRAM <= q.length(); j++) {
+            int[] p = postings.get(q.substring(j, j + GRAM));
+            if (p == null) return new int[0];
+            lists.add(p);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] candidates = lists.get(0);
+        for (int k = 1; k < lists.size() && candidates.length > 0; k++) {
+            candidates = intersect(candidates, lists.get(k));
+        }
+
+        // trigrams can match out of order; confirm the real substring
+        IntList hits = new IntList();
+        for (int i : candidates) {
+            if (haystacks[i].contains(q)) hits.add(i);
+        }
+        return hits.toArray();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else { out[n++] = a[i]; i++; j++; }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private List<WarpCatalog.Entry> toEntries(int[] indexes) {
+        List<WarpCatalog.Entry> out = new ArrayList<>(indexes.length);
+        for (int i : indexes) out.add(entries.get(i));
+        return out;
+    }
+
+    private static final class IntList {
+        private int[] a = new int[4];
+        private int size;
+
+        void add(int v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, size);
+        }
+    }
+}
@@ -48,7 +48,12 @@ public final class WarpsCommand implements CommandExecutor {
         final boolean canWarp = p.hasPermission("huskhomes.command.warp");
         final boolean canWarpList = p.hasPermission("huskhomes.command.warplist");
 
-        // If player used args, ALWAYS forward to HuskHomes — but ensure they have permission
+        // Determine whether we will open the GUI or forward
+        final boolean menuEnabled = (config == null) || config.isEnabled("menus.warps.enabled", true);
+        final boolean toggleOn = (toggles == null) || toggles.isWarpMenuOn(p);
+        final boolean canOpenGui = menuEnabled && toggleOn && (warpsMenu != null);
+
+        // If player used args, forward to HuskHomes — but ensure they have permission
         if (args != null && args.length > 0) {
             if ("warp".equals(cmdName) && !canWarp) {
                 deny(p);
@@ -59,15 +64,16 @@ public final class WarpsCommand implements CommandExecutor {
                 return true;
             }
 
+            // ✅ /warps <query> -> search in the GUI (/warps <page> still goes to HuskHomes)
+            if ("warps".equals(cmdName) && canOpenGui && config != null && config.warpsSearchEnabled() && isSearch(args)) {
+                warpsMenu.search(p, String.join(" ", args));
+                return true;
+            }
+
             forwardToHuskHomes(p, cmdName, args);
             return true;
         }
 
-        // Determine whether we will open the GUI or forward
-        final boolean menuEnabled = (config == null) || config.isEnabled("menus.warps.enabled", true);
-        final boolean toggleOn = (toggles == null) || toggles.isWarpMenuOn(p);
-        final boolean canOpenGui = menuEnabled && toggleOn && (warpsMenu != null);
-
         // ✅ If GUI is ON -> open it
         if (canOpenGui) {
             warpsMenu.open(p);
@@ -88,6 +94,16 @@ public final class WarpsCommand implements CommandExecutor {
         return true;
     }
 
+    static boolean isSearch(String[] args) {
+        if (args.length != 1) return true;
+        try {
+            Integer.parseInt(args[0]);
+            return false;
+        } catch (NumberFormatException ignored) {
+            return true;
+        }
+    }
+
     private void deny(Player p) {
         String msg = (config != null)
                 ? config.msgWithPrefix("messages.no_permission", "&cNo permission.")
@@ -17,6 +17,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
+import java.util.Arrays;
 import java.util.Locale;
 
 public final class WarpsCommandInterceptListener implements Listener {
@@ -63,8 +64,17 @@ public final class WarpsCommandInterceptListener implements Listener {
         // Only care about /warp and /warps
         if (!(cmd.equals("warp") || cmd.equals("warps"))) return;
 
-        // Only intercept "/warp" and "/warps" with NO args
-        if (parts.length != 1) return;
+        // Only intercept "/warp" and "/warps" with NO args, plus "/warps <query>" (search)
+        final String query;
+        if (parts.length == 1) {
+            query = null;
+        } else if (cmd.equals("warps")
+                && config != null && config.warpsSearchEnabled()
+                && WarpsCommand.isSearch(Arrays.copyOfRange(parts, 1, parts.length))) {
+            query = String.join(" ", Arrays.copyOfRange(parts, 1, parts.length));
+        } else {
+            return;
+        }
 
         // ✅ Permission gate should match HuskHomes permissions, not huskhomesmenus.*
         // /warp -> huskhomes.command.warp
@@ -81,7 +91,10 @@ public final class WarpsCommandInterceptListener implements Listener {
 
         try {
             // ✅ Folia-safe: open inventory on the player's region thread
-            Sched.run(p, () -> warpsMenu.open(p));
+            Sched.run(p, () -> {
+                if (query == null) warpsMenu.open(p);
+                else warpsMenu.search(p, query);
+            });
         } catch (Throwable t) {
             p.sendMessage(AMP.deserialize((config != null ? config.prefix() : "") + "&cWarp menu failed to open."));
             if (config != null && config.debug()) t.printStackTrace();
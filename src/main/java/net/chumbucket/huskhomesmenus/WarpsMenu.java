@@ -14,9 +14,7 @@ import net.william278.huskhomes.api.HuskHomesAPI;
 import net.william278.huskhomes.position.Warp;
 import net.william278.huskhomes.user.OnlineUser;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.Sound;
-import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -24,11 +22,11 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -36,25 +34,82 @@ public final class WarpsMenu implements Listener {
 
     private final HuskHomesMenus plugin;
     private final HHMConfig config;
+    private final WarpCatalog catalog;
+    private final WarpPermissions permissions;
+    private final SignPromptService signPrompts;
+    private final WarpFavourites favourites;
+    private final OptionalProxyMessenger messenger;
+    private final ChunkPrewarmer prewarmer;
 
     // Track last opened page per player
     private final Map<UUID, Integer> lastPage = new ConcurrentHashMap<>();
 
-    private enum WarpPermMode {
-        PER_WARP, // show only warps with huskhomes.warp.<warpname> or huskhomes.warp.*
-        SHOW_ALL  // if player has no per-warp permissions at all, show all warps
-    }
+    // player -> prebuilt neighbours of the page they're looking at (page number -> page)
+    private final Map<UUID, Map<Integer, Page>> prefetched = new ConcurrentHashMap<>();
+
+    // (warp, locked) -> finished item for one catalog version, handed out as clones.
+    // Warp items don't depend on the viewer; a config reload builds a new WarpsMenu (and cache).
+    private record WarpItemKey(UUID warp, boolean locked) {}
+    private final Map<WarpItemKey, ItemStack> warpItems = new ConcurrentHashMap<>();
+    private volatile long warpItemsVersion = -1L;
 
-    public WarpsMenu(HuskHomesMenus plugin, HHMConfig config) {
+    public WarpsMenu(HuskHomesMenus plugin, HHMConfig config, WarpCatalog catalog,
+                     WarpPermissions permissions, SignPromptService signPrompts, WarpFavourites favourites,
+                     OptionalProxyMessenger messenger, ChunkPrewarmer prewarmer) {
         this.plugin = plugin;
         this.config = config;
+        this.catalog = catalog;
+        this.permissions = permissions;
+        this.signPrompts = signPrompts;
+        this.favourites = favourites;
+        this.messenger = messenger;
+        this.prewarmer = prewarmer;
     }
 
+    /**
+     * Which warps a menu shows: all of them, search results, one category, or the player's
+     * favourites + recent warps.
+     */
+    public record View(Kind kind, String arg) {
+        public enum Kind { ALL, SEARCH, CATEGORY, FAVOURITES }
+
+        public static final View ALL = new View(Kind.ALL, null);
+        public static final View FAVOURITES = new View(Kind.FAVOURITES, null);
+
+        static View search(String query) {
+            String q = WarpSearchIndex.normalize(query);
+            return q.isEmpty() ? ALL : new View(Kind.SEARCH, q);
+        }
+
+        static View category(String category) {
+            return new View(Kind.CATEGORY, category);
+        }
+    }
+
+    /**
+     * Opens on the player's favourites + recent warps if they have any, else the last page they viewed.
+     * Call on the player's thread.
+     */
     public void open(Player player) {
+        if (favouritesOn() && config.warpsFavouritesOpenFirst() && !favourites.isEmpty(player)) {
+            open(player, 1, View.FAVOURITES);
+            return;
+        }
         open(player, lastPage.getOrDefault(player.getUniqueId(), 1));
     }
 
     public void open(Player player, int page) {
+        open(player, page, View.ALL);
+    }
+
+    /**
+     * Opens the menu filtered to warps whose name/description contains the query (blank = all warps).
+     */
+    public void search(Player player, String query) {
+        open(player, 1, View.search(query));
+    }
+
+    private void open(Player player, int page, View view) {
         if (player == null) return;
 
         if (!config.warpsMenuEnabled()) {
@@ -62,157 +117,318 @@ public final class WarpsMenu implements Listener {
             return;
         }
 
-        final int rows = Math.max(1, config.warpsRows());
-        final int size = rows * 9;
         final int safePage = Math.max(1, page);
 
-        final HuskHomesAPI api;
-        try {
-            api = HuskHomesAPI.getInstance();
-        } catch (Throwable t) {
-            player.sendMessage(config.msgWithPrefix("messages.warps.load_failed", "&cFailed to load warps."));
+        // Serve the shared snapshot as-is (it reloads itself in the background when due)
+        WarpCatalog.Snapshot snap = catalog.snapshot();
+        if (snap != null) {
+            render(player, snap, safePage, view);
             return;
         }
 
-        api.getWarps().thenAccept(warps -> {
-            final List<Warp> raw = (warps == null) ? List.of() : warps;
+        catalog.current().thenAccept(loaded ->
+                // ✅ Folia-safe: hop back onto the player's thread via Sched
+                Sched.run(player, () -> {
+                    if (player.isOnline()) render(player, loaded, safePage, view);
+                })
+        ).exceptionally(err -> {
+            // ✅ Folia-safe: message on player's thread
+            Sched.run(player, () -> {
+                if (player != null && player.isOnline()) {
+                    player.sendMessage(config.msgWithPrefix("messages.warps.load_failed", "&cFailed to load warps."));
+                }
+            });
+            return null;
+        });
+    }
+
+    // Player's thread
+    private void render(Player player, WarpCatalog.Snapshot snap, int safePage, View requested) {
+        final View view = enabled(requested) ? requested : View.ALL;
+
+        // Per-warp permissions for this viewer (cached per snapshot)
+        final WarpPermissions.Access access = permissions.access(player, snap);
 
-            // Normalize + sort by name (stable ordering)
-            final List<Warp> sorted = new ArrayList<>();
-            for (Warp w : raw) {
-                String n = safeWarpName(w);
-                if (n == null || n.isBlank()) continue;
-                sorted.add(w);
+        Page page = takePrefetched(player.getUniqueId(), snap, access, safePage, view);
+        List<WarpCatalog.Entry> source = null;
+        if (page == null) {
+            source = source(player, snap, view);
+            page = layout(snap, access, safePage, view, source);
+            fill(page, snap);
+        }
+
+        show(player, page);
+
+        // favourites change with every click/teleport; they're never prefetched
+        if (page.pages > 1 && view.kind() != View.Kind.FAVOURITES) {
+            prefetchAround(player, snap, access, page, (source != null) ? source : source(player, snap, view));
+        } else {
+            prefetched.remove(player.getUniqueId());
+        }
+    }
+
+    private boolean enabled(View view) {
+        return switch (view.kind()) {
+            case ALL -> true;
+            case SEARCH -> config.warpsSearchEnabled();
+            case CATEGORY -> config.warpsCategoriesEnabled();
+            case FAVOURITES -> favouritesOn();
+        };
+    }
+
+    private boolean favouritesOn() {
+        return favourites != null && config.warpsFavouritesEnabled();
+    }
+
+    // The warps a view lists, in display order (player's thread: favourites read the player's PDC once)
+    private List<WarpCatalog.Entry> source(Player player, WarpCatalog.Snapshot snap, View view) {
+        return switch (view.kind()) {
+            case ALL -> snap.entries();
+            // Search results come pre-ordered from the snapshot's index (no rescans per page)
+            case SEARCH -> snap.search(view.arg());
+            case CATEGORY -> snap.inCategory(view.arg());
+            case FAVOURITES -> favourites.view(player, snap);
+        };
+    }
+
+    // -------------------------
+    // Pages (layout on the player's thread, items anywhere, inventory on the player's thread)
+    // -------------------------
+
+    private static final class Page {
+        final long version;
+        final View view;
+        final WarpPermissions.Access access;
+        final int page;
+        final int pages;
+        final int perPage;
+        final int total;
+        final List<Integer> itemSlots;
+        final WarpCatalog.Entry[] slotWarps; // raw slot -> warp shown there
+        ItemStack[] contents;
+
+        Page(long version, View view, WarpPermissions.Access access, int page, int pages, int perPage, int total,
+             List<Integer> itemSlots, WarpCatalog.Entry[] slotWarps) {
+            this.version = version;
+            this.view = view;
+            this.access = access;
+            this.page = page;
+            this.pages = pages;
+            this.perPage = perPage;
+            this.total = total;
+            this.itemSlots = itemSlots;
+            this.slotWarps = slotWarps;
+        }
+
+        boolean matches(long version, WarpPermissions.Access access, int page, View view) {
+            return this.version == version && this.access == access && this.page == page
+                    && this.view.equals(view);
+        }
+    }
+
+    // Which warps go where (no items built yet)
+    private Page layout(WarpCatalog.Snapshot snap, WarpPermissions.Access access, int safePage, View view,
+                        List<WarpCatalog.Entry> sorted) {
+        final int rows = Math.max(1, config.warpsRows());
+        final int size = rows * 9;
+
+        List<Integer> itemSlots = config.warpsItemSlots(rows);
+        if (itemSlots == null || itemSlots.isEmpty()) itemSlots = defaultWarpSlots(size);
+
+        // Visible list:
+        final List<WarpCatalog.Entry> visible;
+        if (!access.perWarp()) {
+            visible = sorted;
+        } else {
+            visible = new ArrayList<>();
+            for (WarpCatalog.Entry w : sorted) {
+                if (access.canUse(w)) visible.add(w);
             }
-            sorted.sort(Comparator.comparing(w -> {
-                String n = safeWarpName(w);
-                return n == null ? "" : n.toLowerCase(Locale.ROOT);
-            }));
+        }
 
-            // ✅ Folia-safe: hop back onto the player's thread via Sched
-            Sched.run(player, () -> {
-                if (!player.isOnline()) return;
+        final int perPage = Math.max(1, itemSlots.size());
+        final int pages = Math.max(1, (int) Math.ceil(visible.size() / (double) perPage));
+        final int clampedPage = Math.max(1, Math.min(pages, safePage));
 
-                List<Integer> itemSlots = config.warpsItemSlots(rows);
-                if (itemSlots == null || itemSlots.isEmpty()) itemSlots = defaultWarpSlots(size);
+        int startIndex = (clampedPage - 1) * perPage;
+        int endIndex = Math.min(visible.size(), startIndex + perPage);
 
-                // Decide permission mode for this viewer
-                final WarpPermMode mode = determineMode(player, sorted);
+        final WarpCatalog.Entry[] slotWarps = new WarpCatalog.Entry[size];
+        int slotCursor = 0;
+        for (int i = startIndex; i < endIndex && slotCursor < itemSlots.size(); i++) {
+            slotWarps[itemSlots.get(slotCursor++)] = visible.get(i);
+        }
 
-                // Visible list:
-                final List<Warp> visible = new ArrayList<>();
-                for (Warp w : sorted) {
-                    String name = safeWarpName(w);
-                    if (name == null || name.isBlank()) continue;
+        return new Page(snap.version(), view, access, clampedPage, pages, perPage, visible.size(), itemSlots, slotWarps);
+    }
 
-                    if (mode == WarpPermMode.SHOW_ALL) {
-                        visible.add(w);
-                    } else {
-                        if (canUseWarp(player, name)) visible.add(w);
-                    }
-                }
+    // Item assembly only (snapshot data, no world/player access), so it can run off-thread
+    private void fill(Page page, WarpCatalog.Snapshot snap) {
+        final int size = page.slotWarps.length;
+        final ItemStack[] contents = new ItemStack[size];
 
-                final int perPage = Math.max(1, itemSlots.size());
-                final int pages = Math.max(1, (int) Math.ceil(visible.size() / (double) perPage));
-                final int clampedPage = Math.max(1, Math.min(pages, safePage));
-
-                Inventory inv = Bukkit.createInventory(
-                        new WarpsHolder(player.getUniqueId(), clampedPage),
-                        size,
-                        config.colorComponent(config.warpsTitle())
-                );
-
-                // filler
-                if (config.warpsUseFiller()) {
-                    ItemStack filler = config.buildItem(config.warpsFillerItem(), Map.of());
-                    if (filler != null) {
-                        for (int i = 0; i < size; i++) inv.setItem(i, filler);
-                    }
-                }
+        // filler
+        if (config.warpsUseFiller()) {
+            ItemStack filler = config.cachedItem(config.warpsFillerItem());
+            if (filler != null) Arrays.fill(contents, filler);
+        }
 
-                // place items
-                int startIndex = (clampedPage - 1) * perPage;
-                int endIndex = Math.min(visible.size(), startIndex + perPage);
+        for (int slot = 0; slot < size; slot++) {
+            WarpCatalog.Entry warp = page.slotWarps[slot];
+            if (warp == null) continue;
 
-                int slotCursor = 0;
-                for (int i = startIndex; i < endIndex && slotCursor < itemSlots.size(); i++) {
-                    Warp warp = visible.get(i);
-                    int slot = itemSlots.get(slotCursor++);
+            ItemStack item = warpItem(snap, warp, page.access.canUse(warp));
+            if (item != null) contents[slot] = item;
+        }
 
-                    String warpName = safeWarpName(warp);
-                    if (warpName == null || warpName.isBlank()) continue;
+        // empty state
+        if (page.total == 0 && !page.itemSlots.isEmpty()) {
+            ItemStack empty = config.cachedItem(config.warpsEmptyItem());
+            if (empty != null) contents[page.itemSlots.get(0)] = empty;
+        }
 
-                    boolean canUse = (mode == WarpPermMode.SHOW_ALL) || canUseWarp(player, warpName);
+        // nav
+        if (config.warpsNavEnabled()) {
+            placeNav(contents, page.page, page.pages, page.perPage, page.total);
+        }
 
-                    ItemStack item = buildWarpItem(player, warp, canUse);
-                    if (item != null) inv.setItem(slot, item);
-                }
+        // search button
+        if (config.warpsSearchEnabled() && signPrompts != null) {
+            put(contents, config.warpsSearchSlot(), config.cachedItem(config.warpsSearchItem()));
+        }
 
-                // empty state
-                if (visible.isEmpty() && itemSlots != null && !itemSlots.isEmpty()) {
-                    ItemStack empty = config.buildItem(config.warpsEmptyItem(), Map.of());
-                    if (empty != null) inv.setItem(itemSlots.get(0), empty);
-                }
+        // favourites <-> all warps
+        if (favouritesOn()) {
+            HHMConfig.MenuItemTemplate t = (page.view.kind() == View.Kind.FAVOURITES)
+                    ? config.warpsAllItem()
+                    : config.warpsFavouritesItem();
+            put(contents, config.warpsFavouritesSlot(), config.cachedItem(t));
+        }
 
-                // nav
-                if (config.warpsNavEnabled()) {
-                    placeNav(inv, clampedPage, pages, perPage, visible.size());
-                }
+        // category switcher (only if any warp has a category)
+        if (config.warpsCategoriesEnabled() && !snap.categories().isEmpty()) {
+            String current = (page.view.kind() == View.Kind.CATEGORY) ? page.view.arg() : "All";
+            TextTemplate.Values ph = new TextTemplate.Values().set(TextTemplate.Key.WARP_CATEGORY, current);
+            put(contents, config.warpsCategoriesSlot(), config.cachedItem(config.warpsCategoryItem(), ph));
+        }
 
-                lastPage.put(player.getUniqueId(), clampedPage);
-                player.openInventory(inv);
-            });
-        }).exceptionally(err -> {
-            // ✅ Folia-safe: message on player's thread
-            Sched.run(player, () -> {
-                if (player != null && player.isOnline()) {
-                    player.sendMessage(config.msgWithPrefix("messages.warps.load_failed", "&cFailed to load warps."));
+        page.contents = contents;
+    }
+
+    // Player's thread
+    private void show(Player player, Page page) {
+        WarpsHolder holder = new WarpsHolder(player.getUniqueId(), page.page, page.view, page.version, page.slotWarps);
+        String title = switch (page.view.kind()) {
+            case ALL -> config.warpsTitle();
+            case SEARCH -> config.warpsSearchTitle().replace("%query%", page.view.arg());
+            case CATEGORY -> config.warpsCategoriesTitle().replace("%warp_category%", page.view.arg());
+            case FAVOURITES -> config.warpsFavouritesTitle();
+        };
+        Inventory inv = Bukkit.createInventory(holder, page.slotWarps.length, config.colorComponent(title));
+        inv.setContents(page.contents);
+
+        // filtered views don't replace the page /warps reopens at
+        if (page.view.kind() == View.Kind.ALL) lastPage.put(player.getUniqueId(), page.page);
+        player.openInventory(inv);
+    }
+
+    // Lay out N-1 / N+1 now, build their items in the background
+    private void prefetchAround(Player player, WarpCatalog.Snapshot snap, WarpPermissions.Access access, Page shown,
+                                List<WarpCatalog.Entry> source) {
+        final Map<Integer, Page> ready = new ConcurrentHashMap<>();
+        prefetched.put(player.getUniqueId(), ready);
+
+        for (int n : new int[]{shown.page - 1, shown.page + 1}) {
+            if (n < 1 || n > shown.pages) continue;
+
+            final Page next = layout(snap, access, n, shown.view, source);
+            Sched.async(() -> {
+                try {
+                    fill(next, snap);
+                    ready.put(next.page, next);
+                } catch (Throwable t) {
+                    if (config.debug()) plugin.getLogger().warning("Warps page prefetch failed: " + t.getMessage());
                 }
             });
-            return null;
-        });
+        }
+    }
+
+    private Page takePrefetched(UUID uuid, WarpCatalog.Snapshot snap, WarpPermissions.Access access, int page, View view) {
+        Map<Integer, Page> ready = prefetched.get(uuid);
+        Page p = (ready == null) ? null : ready.remove(page);
+        return (p != null && p.matches(snap.version(), access, page, view)) ? p : null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        UUID uuid = e.getPlayer().getUniqueId();
+        lastPage.remove(uuid);
+        prefetched.remove(uuid);
     }
 
     // -------------------------
     // Rendering
     // -------------------------
 
-    private void placeNav(Inventory inv, int page, int pages, int perPage, int total) {
-        Map<String, String> ph = new HashMap<>();
-        ph.put("%page%", String.valueOf(page));
-        ph.put("%pages%", String.valueOf(pages));
-        ph.put("%prev_page%", String.valueOf(Math.max(1, page - 1)));
-        ph.put("%next_page%", String.valueOf(Math.min(pages, page + 1)));
-        ph.put("%per_page%", String.valueOf(perPage));
-        ph.put("%total_warps%", String.valueOf(total));
+    private void placeNav(ItemStack[] contents, int page, int pages, int perPage, int total) {
+        TextTemplate.Values ph = new TextTemplate.Values()
+                .set(TextTemplate.Key.PAGE, String.valueOf(page))
+                .set(TextTemplate.Key.PAGES, String.valueOf(pages))
+                .set(TextTemplate.Key.PREV_PAGE, String.valueOf(Math.max(1, page - 1)))
+                .set(TextTemplate.Key.NEXT_PAGE, String.valueOf(Math.min(pages, page + 1)))
+                .set(TextTemplate.Key.PER_PAGE, String.valueOf(perPage))
+                .set(TextTemplate.Key.TOTAL_WARPS, String.valueOf(total));
+
+        if (page > 1) put(contents, config.warpsNavPrevSlot(), config.cachedItem(config.warpsNavPrevItem(), ph));
+        put(contents, config.warpsNavPageSlot(), config.cachedItem(config.warpsNavPageItem(), ph));
+        if (page < pages) put(contents, config.warpsNavNextSlot(), config.cachedItem(config.warpsNavNextItem(), ph));
+        put(contents, config.warpsNavCloseSlot(), config.cachedItem(config.warpsNavCloseItem(), ph));
+    }
 
-        if (page > 1) inv.setItem(config.warpsNavPrevSlot(), config.buildItem(config.warpsNavPrevItem(), ph));
-        inv.setItem(config.warpsNavPageSlot(), config.buildItem(config.warpsNavPageItem(), ph));
-        if (page < pages) inv.setItem(config.warpsNavNextSlot(), config.buildItem(config.warpsNavNextItem(), ph));
-        inv.setItem(config.warpsNavCloseSlot(), config.buildItem(config.warpsNavCloseItem(), ph));
+    private static void put(ItemStack[] contents, int slot, ItemStack item) {
+        if (slot >= 0 && slot < contents.length) contents[slot] = item;
     }
 
-    private ItemStack buildWarpItem(Player viewer, Warp warp, boolean canUse) {
-        final String warpName = safeWarpName(warp);
-        if (warpName == null || warpName.isBlank()) return null;
+    private ItemStack warpItem(WarpCatalog.Snapshot snap, WarpCatalog.Entry entry, boolean canUse) {
+        final long version = snap.version();
+        if (version > warpItemsVersion) {
+            synchronized (warpItems) {
+                if (version > warpItemsVersion) {
+                    warpItems.clear();
+                    warpItemsVersion = version;
+                }
+            }
+        }
+
+        // rendering from an older snapshot than the cache holds: build, don't cache
+        if (version < warpItemsVersion) return buildWarpItem(entry, canUse);
+
+        ItemStack proto = warpItems.computeIfAbsent(new WarpItemKey(entry.id(), !canUse), k -> buildWarpItem(entry, canUse));
+        return (proto == null) ? null : proto.clone();
+    }
+
+    private ItemStack buildWarpItem(WarpCatalog.Entry entry, boolean canUse) {
+        final String warpName = entry.name();
+        final Warp warp = entry.warp();
 
         // choose template (teleport vs locked)
         HHMConfig.MenuItemTemplate base = canUse ? config.warpsTeleportItem() : config.warpsLockedItem();
 
         // per-warp override item ONLY for usable warps
-        ConfigurationSection override = config.warpOverrideSection(warpName);
-        if (canUse && override != null && override.isConfigurationSection("item")) {
-            base = HHMConfig.MenuItemTemplate.fromSection(override.getConfigurationSection("item"), base);
+        if (canUse) {
+            HHMConfig.MenuItemTemplate override = config.warpOverrideItem(warpName);
+            if (override != null) base = override;
         }
 
-        Map<String, String> ph = new HashMap<>();
-        ph.put("%warp_name%", warpName);
-        ph.put("%warp_description%", safeWarpDescription(warp));
-        ph.put("%warp_server%", safeWarpServer(warp));
-        ph.put("%warp_world%", safeWarpWorld(warp));
-        ph.put("%warp_dimension%", safeWarpDimension(warp));
-        ph.put("%warp_coords%", safeWarpCoords(warp));
-        ph.put("%warp_permission%", "huskhomes.warp." + warpName.toLowerCase(Locale.ROOT));
+        TextTemplate.Values ph = new TextTemplate.Values()
+                .set(TextTemplate.Key.WARP_NAME, warpName)
+                .set(TextTemplate.Key.WARP_DESCRIPTION, entry.description())
+                .set(TextTemplate.Key.WARP_SERVER, safeWarpServer(warp))
+                .set(TextTemplate.Key.WARP_WORLD, safeWarpWorld(warp))
+                .set(TextTemplate.Key.WARP_DIMENSION, entry.dimension())
+                .set(TextTemplate.Key.WARP_COORDS, safeWarpCoords(warp))
+                .set(TextTemplate.Key.WARP_PERMISSION, entry.permission())
+                .set(TextTemplate.Key.WARP_CATEGORY, entry.category());
 
         return config.buildItem(base, ph);
     }
@@ -264,7 +480,7 @@ public final class WarpsMenu implements Listener {
                 runPlayerCommands(p, plugin.getConfig().getStringList("menus.warps.navigation.prev_item.click.player_commands"), navPh);
                 runConsoleCommands(plugin.getConfig().getStringList("menus.warps.navigation.prev_item.click.console_commands"), navPh);
 
-                open(p, holder.page() - 1);
+                open(p, holder.page() - 1, holder.view());
                 return;
             }
 
@@ -278,7 +494,7 @@ public final class WarpsMenu implements Listener {
                 runPlayerCommands(p, plugin.getConfig().getStringList("menus.warps.navigation.next_item.click.player_commands"), navPh);
                 runConsoleCommands(plugin.getConfig().getStringList("menus.warps.navigation.next_item.click.console_commands"), navPh);
 
-                open(p, holder.page() + 1);
+                open(p, holder.page() + 1, holder.view());
                 return;
             }
 
@@ -296,127 +512,136 @@ public final class WarpsMenu implements Listener {
             }
         }
 
-        ItemStack clicked = top.getItem(rawSlot);
-        if (clicked == null || clicked.getType() == Material.AIR) return;
+        // Resolve the exact warp this player was shown (one array read, no fetch)
+        WarpCatalog.Entry shown = holder.warpAt(rawSlot);
+        if (shown == null) {
+            onButtonClick(p, holder, rawSlot);
+            return;
+        }
 
-        final HuskHomesAPI api;
-        try {
-            api = HuskHomesAPI.getInstance();
-        } catch (Throwable t) {
-            p.sendMessage(config.msgWithPrefix("messages.warps.load_failed", "&cFailed to load warps."));
+        WarpCatalog.Snapshot snap = catalog.snapshot();
+        WarpCatalog.Entry target = (snap == null) ? null
+                : (snap.version() == holder.catalogVersion()) ? shown : snap.byId(shown.id());
+        if (target == null) {
+            // deleted since the menu was rendered
+            open(p, holder.page(), holder.view());
             return;
         }
 
-        final int page = holder.page();
-        final int rows = top.getSize() / 9;
+        final Warp targetWarp = target.warp();
+        final String warpName = target.name();
 
-        List<Integer> itemSlots = config.warpsItemSlots(rows);
-        if (itemSlots == null || itemSlots.isEmpty()) itemSlots = defaultWarpSlots(top.getSize());
+        // shift-click: (un)favourite instead of teleporting (max: 0 keeps only recent warps)
+        if (e.isShiftClick() && favouritesOn() && config.warpsFavouritesMax() > 0) {
+            boolean added = favourites.toggleFavourite(p, target.id());
+            playSound(p, config.warpsNavClickSound(), config.warpsTeleportClickSound());
+            p.sendMessage(config.msgWithPrefix(
+                    added ? "messages.warps.favourite_added" : "messages.warps.favourite_removed",
+                    added ? "&aAdded &f%warp_name% &ato your favourite warps." : "&7Removed &f%warp_name% &7from your favourite warps."
+            ).replace("%warp_name%", warpName));
 
-        int slotIndex = itemSlots.indexOf(rawSlot);
-        if (slotIndex < 0) return;
+            if (holder.view().kind() == View.Kind.FAVOURITES) open(p, holder.page(), holder.view());
+            return;
+        }
 
-        final int perPage = Math.max(1, itemSlots.size());
-        final int start = (Math.max(1, page) - 1) * perPage;
+        Map<String, String> ph = new HashMap<>();
+        ph.put("%player%", p.getName());
+        ph.put("%warp_name%", warpName);
+        ph.put("%warp_description%", target.description());
+        ph.put("%warp_server%", safeWarpServer(targetWarp));
+        ph.put("%warp_world%", safeWarpWorld(targetWarp));
+        ph.put("%warp_dimension%", target.dimension());
+        ph.put("%warp_coords%", safeWarpCoords(targetWarp));
+        ph.put("%warp_permission%", target.permission());
 
-        api.getWarps().thenAccept(warps -> {
-            final List<Warp> raw = (warps == null) ? List.of() : warps;
+        boolean canUse = permissions.access(p, snap).canUse(target);
 
-            // sort consistent with open()
-            final List<Warp> sorted = new ArrayList<>();
-            for (Warp w : raw) {
-                String n = safeWarpName(w);
-                if (n == null || n.isBlank()) continue;
-                sorted.add(w);
-            }
-            sorted.sort(Comparator.comparing(w -> {
-                String n = safeWarpName(w);
-                return n == null ? "" : n.toLowerCase(Locale.ROOT);
-            }));
-
-            final WarpPermMode mode = determineMode(p, sorted);
-
-            // visible consistent with open()
-            final List<Warp> visible = new ArrayList<>();
-            for (Warp w : sorted) {
-                String name = safeWarpName(w);
-                if (name == null || name.isBlank()) continue;
-
-                if (mode == WarpPermMode.SHOW_ALL) {
-                    visible.add(w);
-                } else {
-                    if (canUseWarp(p, name)) visible.add(w);
-                }
-            }
+        if (!canUse) {
+            playSound(p, config.warpsLockedClickSound(), config.warpsTeleportClickSound());
 
-            int idx = start + slotIndex;
-            if (idx < 0 || idx >= visible.size()) return;
+            // ✅ LOCKED click actions (override first, then global)
+            // global: menus.warps.warp_items.locked.click.*
+            runClickActions(p, warpName, "menus.warps.warp_items.locked.click", ph);
 
-            Warp targetWarp = visible.get(idx);
-            String warpName = safeWarpName(targetWarp);
+            boolean close = plugin.getConfig().getBoolean(
+                    "menus.warps.warp_items.locked.click.close_menu", false);
+            if (close) p.closeInventory();
+            return;
+        }
 
-            // ✅ Folia-safe: hop back onto the player's thread via Sched
-            Sched.run(p, () -> {
-                if (!p.isOnline()) return;
-                if (warpName == null || warpName.isBlank()) return;
+        try {
+            // ✅ TELEPORT click actions (override first, then global)
+            // global: menus.warps.warp_items.teleport.click.*
+            runClickActions(p, warpName, "menus.warps.warp_items.teleport.click", ph);
 
-                Map<String, String> ph = new HashMap<>();
-                ph.put("%player%", p.getName());
-                ph.put("%warp_name%", warpName);
-                ph.put("%warp_description%", safeWarpDescription(targetWarp));
-                ph.put("%warp_server%", safeWarpServer(targetWarp));
-                ph.put("%warp_world%", safeWarpWorld(targetWarp));
-                ph.put("%warp_dimension%", safeWarpDimension(targetWarp));
-                ph.put("%warp_coords%", safeWarpCoords(targetWarp));
-                ph.put("%warp_permission%", "huskhomes.warp." + warpName.toLowerCase(Locale.ROOT));
+            HuskHomesAPI api = HuskHomesAPI.getInstance();
+            OnlineUser user = api.adaptUser(p);
+            api.teleportBuilder()
+                    .teleporter(user)
+                    .target(targetWarp)
+                    .toTimedTeleport()
+                    .execute();
 
-                boolean canUse = (mode == WarpPermMode.SHOW_ALL) || canUseWarp(p, warpName);
+            prewarmDestination(p, targetWarp);
 
-                if (!canUse) {
-                    playSound(p, config.warpsLockedClickSound(), config.warpsTeleportClickSound());
+            playSound(p, config.warpsTeleportClickSound(), null);
+            if (favouritesOn()) favourites.recordUse(p, target.id());
 
-                    // ✅ LOCKED click actions (override first, then global)
-                    // global: menus.warps.warp_items.locked.click.*
-                    runClickActions(p, warpName, "menus.warps.warp_items.locked.click", ph);
+            boolean close = plugin.getConfig().getBoolean(
+                    "menus.warps.warp_items.teleport.click.close_menu", true);
+            if (close) p.closeInventory();
 
-                    boolean close = plugin.getConfig().getBoolean(
-                            "menus.warps.warp_items.locked.click.close_menu", false);
-                    if (close) p.closeInventory();
-                    return;
-                }
+        } catch (Throwable t) {
+            p.sendMessage(config.msgWithPrefix("messages.warps.teleport_failed", "&cTeleport failed."));
+            if (config.debug()) t.printStackTrace();
+        }
+    }
 
-                try {
-                    // ✅ TELEPORT click actions (override first, then global)
-                    // global: menus.warps.warp_items.teleport.click.*
-                    runClickActions(p, warpName, "menus.warps.warp_items.teleport.click", ph);
+    // Search / favourites / category buttons (slots that don't hold a warp)
+    private void onButtonClick(Player p, WarpsHolder holder, int rawSlot) {
+        if (config.warpsSearchEnabled() && signPrompts != null && rawSlot == config.warpsSearchSlot()) {
+            playSound(p, config.warpsNavClickSound(), config.warpsTeleportClickSound());
+            p.closeInventory();
+            promptSearch(p);
+            return;
+        }
 
-                    OnlineUser user = api.adaptUser(p);
-                    api.teleportBuilder()
-                            .teleporter(user)
-                            .target(targetWarp)
-                            .toTimedTeleport()
-                            .execute();
+        if (favouritesOn() && rawSlot == config.warpsFavouritesSlot()) {
+            playSound(p, config.warpsNavClickSound(), config.warpsTeleportClickSound());
+            if (holder.view().kind() == View.Kind.FAVOURITES) {
+                open(p, lastPage.getOrDefault(p.getUniqueId(), 1), View.ALL);
+            } else {
+                open(p, 1, View.FAVOURITES);
+            }
+            return;
+        }
 
-                    playSound(p, config.warpsTeleportClickSound(), null);
+        if (config.warpsCategoriesEnabled() && rawSlot == config.warpsCategoriesSlot()) {
+            WarpCatalog.Snapshot snap = catalog.snapshot();
+            if (snap == null || snap.categories().isEmpty()) return;
+            playSound(p, config.warpsNavClickSound(), config.warpsTeleportClickSound());
+
+            // All -> first category -> ... -> last category -> All
+            List<String> cats = snap.categories();
+            int next = 0;
+            if (holder.view().kind() == View.Kind.CATEGORY) {
+                next = cats.size();
+                for (int i = 0; i < cats.size(); i++) {
+                    if (cats.get(i).equalsIgnoreCase(holder.view().arg())) { next = i + 1; break; }
+                }
+            }
+            open(p, 1, next < cats.size() ? View.category(cats.get(next)) : View.ALL);
+        }
+    }
 
-                    boolean close = plugin.getConfig().getBoolean(
-                            "menus.warps.warp_items.teleport.click.close_menu", true);
-                    if (close) p.closeInventory();
+    // Player's thread; the typed line becomes the query (empty line = back to the full list)
+    private void promptSearch(Player p) {
+        boolean opened = signPrompts.prompt(p, config.warpsSearchSignMaterial(), config.warpsSearchSignLines(),
+                (player, edited) -> search(player, edited.length == 0 ? "" : edited[0]));
 
-                } catch (Throwable t) {
-                    p.sendMessage(config.msgWithPrefix("messages.warps.teleport_failed", "&cTeleport failed."));
-                    if (config.debug()) t.printStackTrace();
-                }
-            });
-        }).exceptionally(ex -> {
-            // ✅ Folia-safe: message on player's thread
-            Sched.run(p, () -> {
-                if (p.isOnline()) {
-                    p.sendMessage(config.msgWithPrefix("messages.warps.load_failed", "&cFailed to load warps."));
-                }
-            });
-            return null;
-        });
+        if (!opened) {
+            p.sendMessage(config.msgWithPrefix("messages.warps.search_failed", "&cCouldn't open the search prompt here."));
+        }
     }
 
     @EventHandler
@@ -499,35 +724,6 @@ public final class WarpsMenu implements Listener {
         return out;
     }
 
-    // -------------------------
-    // Permission rules
-    // -------------------------
-
-    private boolean canUseWarp(Player p, String warpName) {
-        if (p == null) return false;
-        if (warpName == null || warpName.isBlank()) return false;
-
-        String node = "huskhomes.warp." + warpName.toLowerCase(Locale.ROOT);
-        return p.hasPermission("huskhomes.warp.*") || p.hasPermission(node);
-    }
-
-    private WarpPermMode determineMode(Player p, List<Warp> sortedWarps) {
-        if (p == null) return WarpPermMode.SHOW_ALL;
-
-        if (p.hasPermission("huskhomes.warp.*")) return WarpPermMode.PER_WARP;
-
-        if (sortedWarps != null) {
-            for (Warp w : sortedWarps) {
-                String name = safeWarpName(w);
-                if (name == null || name.isBlank()) continue;
-                String node = "huskhomes.warp." + name.toLowerCase(Locale.ROOT);
-                if (p.hasPermission(node)) return WarpPermMode.PER_WARP;
-            }
-        }
-
-        return WarpPermMode.SHOW_ALL;
-    }
-
     // -------------------------
     // Helpers
     // -------------------------
@@ -540,6 +736,9 @@ public final class WarpsMenu implements Listener {
             blocked.add(config.warpsNavNextSlot());
             blocked.add(config.warpsNavCloseSlot());
         }
+        if (config.warpsSearchEnabled() && signPrompts != null) blocked.add(config.warpsSearchSlot());
+        if (favouritesOn()) blocked.add(config.warpsFavouritesSlot());
+        if (config.warpsCategoriesEnabled()) blocked.add(config.warpsCategoriesSlot());
 
         List<Integer> out = new ArrayList<>();
         for (int i = 0; i < size; i++) {
@@ -558,185 +757,43 @@ public final class WarpsMenu implements Listener {
     }
 
     // -------------------------
-    // Best-effort meta access (HH-compatible)
+    // Destination prewarm
     // -------------------------
 
-    private String safeWarpName(Warp w) {
-        if (w == null) return null;
-        try {
-            Object meta = w.getClass().getField("meta").get(w);
-            if (meta != null) {
-                Object name = meta.getClass().getField("name").get(meta);
-                if (name != null) return String.valueOf(name);
-            }
-        } catch (Throwable ignored) {}
-        try {
-            Method m = w.getClass().getMethod("getName");
-            Object o = m.invoke(w);
-            return o == null ? null : String.valueOf(o);
-        } catch (Throwable ignored) {}
-        return null;
-    }
+    // Runs during the warmup: a local warp's chunk starts loading here; another backend gets an
+    // "incoming player" hint and loads the chunk itself
+    private void prewarmDestination(Player p, Warp w) {
+        String server = safeWarpServer(w);
+        if (server.isBlank() || server.equalsIgnoreCase(config.backendName())) {
+            if (prewarmer != null) prewarmer.prewarmLocal(p, w);
+            return;
+        }
 
-    private String safeWarpDescription(Warp w) {
-        if (w == null) return "";
-        try {
-            Object meta = w.getClass().getField("meta").get(w);
-            if (meta != null) {
-                Object desc = meta.getClass().getField("description").get(meta);
-                return desc == null ? "" : String.valueOf(desc);
-            }
-        } catch (Throwable ignored) {}
-        try {
-            Method m = w.getClass().getMethod("getDescription");
-            Object o = m.invoke(w);
-            return o == null ? "" : String.valueOf(o);
-        } catch (Throwable ignored) {}
-        return "";
+        if (messenger == null || !messenger.isEnabled() || !config.proxyPrewarmWarps()) return;
+        messenger.sendWarpPrewarm(p, server, safeWarpWorld(w), PositionAccessor.x(w), PositionAccessor.z(w));
     }
 
-    private String safeWarpServer(Warp w) {
-        if (w == null) return "";
-
-        try {
-            Method m = w.getClass().getMethod("getServer");
-            Object serverObj = m.invoke(w);
-            String name = extractNameLike(serverObj);
-            if (!name.isBlank()) return name;
-        } catch (Throwable ignored) {}
-
-        try {
-            Object meta = w.getClass().getField("meta").get(w);
-            if (meta != null) {
-                Object serverObj = meta.getClass().getField("server").get(meta);
-                String name = extractNameLike(serverObj);
-                if (!name.isBlank()) return name;
-            }
-        } catch (Throwable ignored) {}
+    // -------------------------
+    // Best-effort meta access (HH-compatible)
+    // -------------------------
 
-        return "";
+    private String safeWarpServer(Warp w) {
+        return PositionAccessor.server(w);
     }
 
     private String safeWarpWorld(Warp w) {
-        if (w == null) return "";
-
-        Object worldObj = null;
-
-        try {
-            Method m = w.getClass().getMethod("getWorld");
-            worldObj = m.invoke(w);
-        } catch (Throwable ignored) {}
-
-        if (worldObj == null) {
-            try {
-                Object meta = w.getClass().getField("meta").get(w);
-                if (meta != null) worldObj = meta.getClass().getField("world").get(meta);
-            } catch (Throwable ignored) {}
-        }
-
-        String name = extractNameLike(worldObj);
-        return name == null ? "" : name;
-    }
-
-    private String safeWarpDimension(Warp w) {
-        if (w == null) return "";
-
-        try {
-            Method m = w.getClass().getMethod("getDimension");
-            Object o = m.invoke(w);
-            String s = (o == null) ? "" : String.valueOf(o);
-            if (!s.isBlank() && !looksLikeObjectToString(s)) return s;
-        } catch (Throwable ignored) {}
-
-        try {
-            Object meta = w.getClass().getField("meta").get(w);
-            if (meta != null) {
-                Object dim = null;
-                try { dim = meta.getClass().getField("dimension").get(meta); } catch (Throwable ignored2) {}
-                if (dim == null) {
-                    try { dim = meta.getClass().getField("environment").get(meta); } catch (Throwable ignored2) {}
-                }
-                String s = extractNameLike(dim);
-                if (!s.isBlank()) return s;
-            }
-        } catch (Throwable ignored) {}
-
-        String worldName = safeWarpWorld(w);
-        if (worldName == null || worldName.isBlank()) return "";
-
-        World bw = Bukkit.getWorld(worldName);
-        if (bw == null) return "";
-
-        return switch (bw.getEnvironment()) {
-            case NETHER -> "Nether";
-            case THE_END -> "The End";
-            default -> "Overworld";
-        };
+        return PositionAccessor.world(w);
     }
 
     private String safeWarpCoords(Warp w) {
         if (w == null) return "";
 
-        Double x = null, y = null, z = null;
-
-        try {
-            Method mx = w.getClass().getMethod("getX");
-            Method my = w.getClass().getMethod("getY");
-            Method mz = w.getClass().getMethod("getZ");
-            Object ox = mx.invoke(w);
-            Object oy = my.invoke(w);
-            Object oz = mz.invoke(w);
-
-            if (ox instanceof Number nx) x = nx.doubleValue();
-            if (oy instanceof Number ny) y = ny.doubleValue();
-            if (oz instanceof Number nz) z = nz.doubleValue();
-        } catch (Throwable ignored) {}
+        double x = PositionAccessor.x(w);
+        double y = PositionAccessor.y(w);
+        double z = PositionAccessor.z(w);
+        if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)) return "";
 
-        if (x == null || y == null || z == null) {
-            try {
-                Object meta = w.getClass().getField("meta").get(w);
-                if (meta != null) {
-                    Object ox = meta.getClass().getField("x").get(meta);
-                    Object oy = meta.getClass().getField("y").get(meta);
-                    Object oz = meta.getClass().getField("z").get(meta);
-
-                    if (x == null && ox instanceof Number nx) x = nx.doubleValue();
-                    if (y == null && oy instanceof Number ny) y = ny.doubleValue();
-                    if (z == null && oz instanceof Number nz) z = nz.doubleValue();
-                }
-            } catch (Throwable ignored) {}
-        }
-
-        if (x == null || y == null || z == null) return "";
-
-        long rx = Math.round(x);
-        long ry = Math.round(y);
-        long rz = Math.round(z);
-
-        return rx + ", " + ry + ", " + rz;
-    }
-
-    private String extractNameLike(Object obj) {
-        if (obj == null) return "";
-        if (obj instanceof String s) return s;
-
-        try {
-            Method m = obj.getClass().getMethod("getName");
-            Object o = m.invoke(obj);
-            if (o != null) return String.valueOf(o);
-        } catch (Throwable ignored) {}
-
-        try {
-            Object o = obj.getClass().getField("name").get(obj);
-            if (o != null) return String.valueOf(o);
-        } catch (Throwable ignored) {}
-
-        String s = String.valueOf(obj);
-        return looksLikeObjectToString(s) ? "" : s;
-    }
-
-    private boolean looksLikeObjectToString(String s) {
-        return s != null && s.contains("@") && s.contains(".");
+        return Math.round(x) + ", " + Math.round(y) + ", " + Math.round(z);
     }
 
     // -------------------------
@@ -746,15 +803,32 @@ public final class WarpsMenu implements Listener {
     public static final class WarpsHolder implements InventoryHolder {
         private final UUID viewer;
         private final int page;
+        private final View view;
+        private final long catalogVersion;
+        private final WarpCatalog.Entry[] slotWarps;
 
-        public WarpsHolder(UUID viewer, int page) {
+        public WarpsHolder(UUID viewer, int page, View view, long catalogVersion, WarpCatalog.Entry[] slotWarps) {
             this.viewer = viewer;
             this.page = page;
+            this.view = view;
+            this.catalogVersion = catalogVersion;
+            this.slotWarps = slotWarps;
         }
 
         public UUID viewer() { return viewer; }
         public int page() { return page; }
 
+        /** Which warps this menu lists (all, search, category, favourites). */
+        public View view() { return view; }
+
+        /** {@link WarpCatalog.Snapshot#version()} this page was rendered from. */
+        public long catalogVersion() { return catalogVersion; }
+
+        /** The warp rendered in this raw slot, or null (nav, filler, empty). */
+        public WarpCatalog.Entry warpAt(int rawSlot) {
+            return (rawSlot >= 0 && rawSlot < slotWarps.length) ? slotWarps[rawSlot] : null;
+        }
+
         @Override
         public Inventory getInventory() {
             return null; // Bukkit ignores this for custom holders